@@ -0,0 +1,67 @@
+package org.example.benchmark;
+
+import com.github.javafaker.Faker;
+import org.example.config.InvalidDataConfig;
+import org.example.generator.GeneratorConfig;
+import org.example.generator.RandomSource;
+import org.example.generator.dataGenerator.dictionary.DictionaryFaker;
+import org.example.generator.dataGenerator.repository.FieldGenerator;
+import org.example.generator.dataGenerator.repository.GeneratorRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Field;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Каждый SPI-генератор отдельно: поле из {@link PassportAddressFields} разрешается через {@link GeneratorRegistry},
+ * как в конвейере, и генерируется одно значение на операцию.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FieldGeneratorBenchmark {
+
+    @Param({"firstName", "patronymic", "email", "street", "city", "amount", "daysCount",
+            "inn", "kpp", "series", "number", "code", "testAtribute"})
+    public String field;
+
+    @Param({"ru", "en"})
+    public String locale;
+
+    private Field target;
+    private FieldGenerator generator;
+    private InvalidDataConfig cfg;
+    private RandomSource random;
+    private Faker faker;
+
+    @Setup
+    public void setUp() throws NoSuchFieldException {
+        target = PassportAddressFields.class.getDeclaredField(field);
+        cfg = target.getAnnotation(InvalidDataConfig.class);
+        generator = GeneratorRegistry.getInstance()
+                .configure(new GeneratorConfig().setUseRussianPassport("ru".equals(locale)))
+                .forField(target);
+        random = RandomSource.splittable();
+        random.reseed(42);
+        faker = new DictionaryFaker(Locale.forLanguageTag(locale), new RandomSource.RandomView(random));
+    }
+
+    @Benchmark
+    public Object generateValid() {
+        return generator.generateValid(target, faker, cfg, random);
+    }
+}
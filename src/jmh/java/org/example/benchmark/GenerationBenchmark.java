@@ -0,0 +1,89 @@
+package org.example.benchmark;
+
+import org.example.DTO.Customer;
+import org.example.config.InvalidDataType;
+import org.example.generator.CoreDataGenerator;
+import org.example.generator.Path;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Сквозные бенчмарки билдера. Одна операция — одна запись, поэтому throughput читается как records/sec,
+ * а {@code gc.alloc.rate.norm} из профилировщика {@code -prof gc} — как байты на запись.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GenerationBenchmark {
+
+    private CoreDataGenerator.Builder<Customer> plain;
+    private CoreDataGenerator.Builder<Customer> overrides;
+    private List<Customer> hundred;
+
+    @Setup
+    public void setUp() {
+        plain = CoreDataGenerator.builder(Customer.class).withLocale("ru");
+        overrides = CoreDataGenerator.builder(Customer.class)
+                .withLocale("ru")
+                .invalidate(Path.of("firstName"), InvalidDataType.TOO_SHORT)
+                .invalidate(Path.of("addresses", "*", "street"), InvalidDataType.TOO_LONG)
+                .invalidate(Path.of("addresses", "[0]", "city", "city"), InvalidDataType.TOO_SHORT)
+                .setValue(Path.of("addresses", "[1]", "city", "city"), "Moscow")
+                .setValue(Path.of("passport", "number"), "123456")
+                .setValue(Path.of("testObject", "testAtribute"), "fixed")
+                .withFixedListSize(Path.of("addresses"), 3)
+                .setFieldLocale(Path.of("addressesNoneList", "street"), "en")
+                .setFieldLocale(Path.of("addresses", "*", "city"), "de")
+                .withRussianPassport(true);
+        hundred = plain.buildList(100);
+    }
+
+    @Benchmark
+    public Customer build() {
+        return plain.build();
+    }
+
+    @Benchmark
+    public List<Customer> buildList1() {
+        return plain.buildList(1);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(100)
+    public List<Customer> buildList100() {
+        return plain.buildList(100);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(10_000)
+    public List<Customer> buildList10000() {
+        return plain.buildList(10_000);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(100)
+    public List<Customer> buildListWithOverrides() {
+        return overrides.buildList(100);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(100)
+    public String toJson() {
+        return CoreDataGenerator.toJson(hundred);
+    }
+}
@@ -0,0 +1,75 @@
+package org.example.benchmark;
+
+import org.example.generator.dataGenerator.identifier.IdentifierBlock;
+import org.example.generator.dataGenerator.identifier.IdentifierFormat;
+import org.example.generator.dataGenerator.identifier.NumericIdentifiers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.random.RandomGenerator;
+
+/** 12-значный ИНН: движок {@link NumericIdentifiers} против прежней реализации через int[] и StringBuilder. */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IdentifierBenchmark {
+
+    private static final int[] COEF_11_1 = {7, 2, 4, 10, 3, 5, 9, 4, 6, 8};
+    private static final int[] COEF_11_2 = {3, 7, 2, 4, 10, 3, 5, 9, 4, 6, 8};
+    private static final int BLOCK = 1000;
+
+    private final SplittableRandom random = new SplittableRandom(42);
+
+    @Benchmark
+    public String legacyInn12() {
+        return legacyInn12(random);
+    }
+
+    @Benchmark
+    public String engineInn12() {
+        return NumericIdentifiers.next(IdentifierFormat.INN_12, random);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BLOCK)
+    public IdentifierBlock engineInn12Block() {
+        return NumericIdentifiers.fill(IdentifierFormat.INN_12, random, BLOCK);
+    }
+
+    /** Реализация InnFieldGenerator до перехода на движок. */
+    private static String legacyInn12(RandomGenerator random) {
+        int[] digits = new int[12];
+        for (int i = 0; i < 10; i++) {
+            digits[i] = random.nextInt(10);
+        }
+        digits[10] = checksum(digits, COEF_11_1);
+        digits[11] = checksum(digits, COEF_11_2);
+        StringBuilder inn = new StringBuilder();
+        for (int d : digits) {
+            inn.append(d);
+        }
+        return inn.toString();
+    }
+
+    private static int checksum(int[] digits, int[] coef) {
+        int sum = 0;
+        for (int i = 0; i < coef.length; i++) {
+            sum += digits[i] * coef[i];
+        }
+        int remainder = sum % 11;
+        return remainder == 10 ? 0 : remainder;
+    }
+}
@@ -0,0 +1,41 @@
+package org.example.benchmark;
+
+import org.example.config.InvalidDataConfig;
+
+import javax.validation.constraints.Email;
+import java.math.BigDecimal;
+
+/**
+ * Поля, на которые срабатывает каждый из SPI-генераторов. Имя класса содержит "passport" и "address",
+ * потому что генераторы паспорта и улицы проверяют имя класса-владельца.
+ */
+@SuppressWarnings("unused")
+class PassportAddressFields {
+    @InvalidDataConfig(invalidDataTypes = {}, minLength = 2, maxLength = 50)
+    private String firstName;
+    @InvalidDataConfig(invalidDataTypes = {})
+    private String patronymic;
+    @InvalidDataConfig(invalidDataTypes = {})
+    @Email
+    private String email;
+    @InvalidDataConfig(invalidDataTypes = {}, minLength = 2, maxLength = 50)
+    private String street;
+    @InvalidDataConfig(invalidDataTypes = {}, minLength = 2, maxLength = 100)
+    private String city;
+    @InvalidDataConfig(invalidDataTypes = {})
+    private BigDecimal amount;
+    @InvalidDataConfig(invalidDataTypes = {})
+    private int daysCount;
+    @InvalidDataConfig(invalidDataTypes = {})
+    private String inn;
+    @InvalidDataConfig(invalidDataTypes = {})
+    private String kpp;
+    @InvalidDataConfig(invalidDataTypes = {})
+    private String series;
+    @InvalidDataConfig(invalidDataTypes = {})
+    private String number;
+    @InvalidDataConfig(invalidDataTypes = {})
+    private String code;
+    @InvalidDataConfig(invalidDataTypes = {}, minLength = 2, maxLength = 100)
+    private String testAtribute;
+}
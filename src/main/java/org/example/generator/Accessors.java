@@ -0,0 +1,169 @@
+package org.example.generator;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.function.BiConsumer;
+import java.util.function.ObjDoubleConsumer;
+import java.util.function.ObjIntConsumer;
+import java.util.function.ObjLongConsumer;
+import java.util.function.Supplier;
+
+/**
+ * Фабрика аксессоров DTO: конструктор и сеттеры превращаются в лямбды через {@link LambdaMetafactory}
+ * (JIT инлайнит их как обычный вызов), а если это невозможно — в {@link MethodHandle}.
+ * Вызывается только при компиляции {@link GenerationPlan}, то есть один раз на класс.
+ */
+final class Accessors {
+
+    private static final MethodType SUPPLIER_SAM = MethodType.methodType(Object.class);
+    private static final MethodType OBJECT_SETTER = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private Accessors() {
+    }
+
+    @SuppressWarnings("unchecked")
+    static Supplier<Object> constructor(Class<?> clazz) {
+        MethodHandles.Lookup lookup = lookupIn(clazz);
+        MethodHandle ctor;
+        try {
+            ctor = lookup.findConstructor(clazz, MethodType.methodType(void.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new IllegalStateException("DTO " + clazz.getName() + " должен иметь конструктор без аргументов", e);
+        }
+        try {
+            CallSite site = LambdaMetafactory.metafactory(lookup, "get",
+                    MethodType.methodType(Supplier.class), SUPPLIER_SAM, ctor, ctor.type());
+            return (Supplier<Object>) site.getTarget().invokeExact();
+        } catch (Throwable lambdaUnavailable) {
+            MethodHandle generic = ctor.asType(SUPPLIER_SAM);
+            return () -> {
+                try {
+                    return generic.invokeExact();
+                } catch (Error e) {
+                    throw e;
+                } catch (Throwable t) {
+                    throw new IllegalStateException("Не удалось создать " + clazz.getName(), t);
+                }
+            };
+        }
+    }
+
+    static FieldWriter writer(Field field) {
+        MethodHandles.Lookup lookup = lookupIn(field.getDeclaringClass());
+        MethodHandle setter = findSetter(lookup, field);
+        if (setter != null) {
+            try {
+                return lambdaWriter(lookup, setter, field.getType());
+            } catch (Throwable lambdaUnavailable) {
+                // падаем обратно на MethodHandle сеттера
+            }
+        } else {
+            try {
+                setter = lookup.unreflectSetter(field);
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException("Нет доступа к полю " + field, e);
+            }
+            if (Modifier.isStatic(field.getModifiers())) {
+                setter = MethodHandles.dropArguments(setter, 0, Object.class);
+            }
+        }
+        return handleWriter(setter, field.getType());
+    }
+
+    private static MethodHandles.Lookup lookupIn(Class<?> clazz) {
+        try {
+            return MethodHandles.privateLookupIn(clazz, MethodHandles.lookup());
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Нет доступа к " + clazz.getName(), e);
+        }
+    }
+
+    /** Сеттер в стиле Lombok: {@code setFirstName(String)}, {@code setINN(String)}; только void и не static. */
+    private static MethodHandle findSetter(MethodHandles.Lookup lookup, Field field) {
+        if (Modifier.isStatic(field.getModifiers())) return null;
+        String name = field.getName();
+        String setterName = "set" + Character.toUpperCase(name.charAt(0)) + name.substring(1);
+        try {
+            return lookup.findVirtual(field.getDeclaringClass(), setterName,
+                    MethodType.methodType(void.class, field.getType()));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static FieldWriter lambdaWriter(MethodHandles.Lookup lookup, MethodHandle setter, Class<?> type) throws Throwable {
+        MethodType instantiated = setter.type();
+        if (type == int.class) {
+            ObjIntConsumer<Object> c = (ObjIntConsumer<Object>) LambdaMetafactory.metafactory(lookup, "accept",
+                    MethodType.methodType(ObjIntConsumer.class),
+                    MethodType.methodType(void.class, Object.class, int.class), setter, instantiated)
+                    .getTarget().invokeExact();
+            return new FieldWriter() {
+                public void set(Object target, Object value) { c.accept(target, (Integer) value); }
+                public void setInt(Object target, int value) { c.accept(target, value); }
+            };
+        }
+        if (type == long.class) {
+            ObjLongConsumer<Object> c = (ObjLongConsumer<Object>) LambdaMetafactory.metafactory(lookup, "accept",
+                    MethodType.methodType(ObjLongConsumer.class),
+                    MethodType.methodType(void.class, Object.class, long.class), setter, instantiated)
+                    .getTarget().invokeExact();
+            return new FieldWriter() {
+                public void set(Object target, Object value) { c.accept(target, (Long) value); }
+                public void setLong(Object target, long value) { c.accept(target, value); }
+            };
+        }
+        if (type == double.class) {
+            ObjDoubleConsumer<Object> c = (ObjDoubleConsumer<Object>) LambdaMetafactory.metafactory(lookup, "accept",
+                    MethodType.methodType(ObjDoubleConsumer.class),
+                    MethodType.methodType(void.class, Object.class, double.class), setter, instantiated)
+                    .getTarget().invokeExact();
+            return new FieldWriter() {
+                public void set(Object target, Object value) { c.accept(target, (Double) value); }
+                public void setDouble(Object target, double value) { c.accept(target, value); }
+            };
+        }
+        if (type.isPrimitive()) {
+            // boolean, char, short, byte, float — редкие типы, достаточно MethodHandle
+            return handleWriter(setter, type);
+        }
+        BiConsumer<Object, Object> c = (BiConsumer<Object, Object>) LambdaMetafactory.metafactory(lookup, "accept",
+                MethodType.methodType(BiConsumer.class), OBJECT_SETTER, setter, instantiated)
+                .getTarget().invokeExact();
+        return c::accept;
+    }
+
+    private static FieldWriter handleWriter(MethodHandle setter, Class<?> type) {
+        MethodHandle generic = setter.asType(OBJECT_SETTER);
+        if (type == int.class) {
+            MethodHandle prim = setter.asType(MethodType.methodType(void.class, Object.class, int.class));
+            return new FieldWriter() {
+                public void set(Object target, Object value) throws Throwable { generic.invokeExact(target, value); }
+                public void setInt(Object target, int value) throws Throwable { prim.invokeExact(target, value); }
+            };
+        }
+        if (type == long.class) {
+            MethodHandle prim = setter.asType(MethodType.methodType(void.class, Object.class, long.class));
+            return new FieldWriter() {
+                public void set(Object target, Object value) throws Throwable { generic.invokeExact(target, value); }
+                public void setLong(Object target, long value) throws Throwable { prim.invokeExact(target, value); }
+            };
+        }
+        if (type == double.class) {
+            MethodHandle prim = setter.asType(MethodType.methodType(void.class, Object.class, double.class));
+            return new FieldWriter() {
+                public void set(Object target, Object value) throws Throwable { generic.invokeExact(target, value); }
+                public void setDouble(Object target, double value) throws Throwable { prim.invokeExact(target, value); }
+            };
+        }
+        return (target, value) -> {
+            generic.invokeExact(target, value);
+        };
+    }
+}
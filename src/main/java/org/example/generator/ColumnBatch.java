@@ -0,0 +1,511 @@
+package org.example.generator;
+
+import org.example.generator.dataGenerator.repository.ValueSink;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Пачка записей в колоночном виде (struct-of-arrays), см. {@code Builder.buildColumns(int)}.
+ * Колонки адресуются путём поля, как в статистике: {@code INN}, {@code passport.series},
+ * {@code addresses[*].city.city}; для списков скаляров — {@code tags[*]}.
+ * <p>
+ * Колонки полей верхнего уровня и вложенных DTO имеют {@link #size()} строк; колонки элементов списков
+ * проиндексированы сквозным номером элемента, границы элементов записи — в {@link ListColumn#offsets()}.
+ * Строка без значения (поле пропущено фильтрами или задано {@code null}) отмечена в {@link Column#isNull(int)}.
+ * Объекты DTO создаются только по запросу через {@link #get(int)} и {@link #materialize()}.
+ */
+public final class ColumnBatch<T> {
+
+    private final Class<T> type;
+    private final int size;
+    private final Map<String, Column> columns;
+    private Binding[] root;
+
+    ColumnBatch(Class<T> type, int size, Map<String, Column> columns) {
+        this.type = type;
+        this.size = size;
+        this.columns = Collections.unmodifiableMap(columns);
+    }
+
+    public Class<T> type() {
+        return type;
+    }
+
+    /** Количество записей. */
+    public int size() {
+        return size;
+    }
+
+    /** Все колонки в порядке полей DTO. */
+    public Map<String, Column> columns() {
+        return columns;
+    }
+
+    /** Колонка по пути или {@code null}, если поле не генерировалось. */
+    public Column column(String path) {
+        return columns.get(path);
+    }
+
+    /** Собирает запись {@code row} в объект DTO. */
+    @SuppressWarnings("unchecked")
+    public T get(int row) {
+        if (row < 0 || row >= size) throw new IndexOutOfBoundsException(row);
+        return (T) build(GenerationPlan.of(type), root(), row);
+    }
+
+    /** Собирает все записи. */
+    public List<T> materialize() {
+        List<T> result = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) result.add(get(i));
+        return result;
+    }
+
+    private synchronized Binding[] root() {
+        if (root == null) root = bind(type, "", new HashMap<>());
+        return root;
+    }
+
+    /** Связывает шаги плана с колонками один раз на пачку, чтобы не склеивать пути на каждую запись. */
+    private Binding[] bind(Class<?> clazz, String prefix, Map<String, Binding[]> cache) {
+        Binding[] cached = cache.get(prefix);
+        if (cached != null) return cached;
+        List<GenerationPlan.FieldStep> steps = GenerationPlan.of(clazz).steps();
+        Binding[] bindings = new Binding[steps.size()];
+        for (int i = 0; i < bindings.length; i++) {
+            GenerationPlan.FieldStep step = steps.get(i);
+            String path = prefix + step.name;
+            Binding b = new Binding(step, columns.get(path));
+            if (b.column != null && step.kind == GenerationPlan.Kind.DTO) {
+                b.nestedPlan = GenerationPlan.of(step.type);
+                b.nested = bind(step.type, path + ".", cache);
+            } else if (b.column != null && step.kind == GenerationPlan.Kind.LIST) {
+                if (step.elemIsDto) {
+                    b.nestedPlan = GenerationPlan.of(step.elemType);
+                    b.nested = bind(step.elemType, path + "[*].", cache);
+                } else {
+                    b.elements = columns.get(path + "[*]");
+                }
+            }
+            bindings[i] = b;
+        }
+        cache.put(prefix, bindings);
+        return bindings;
+    }
+
+    private static Object build(GenerationPlan plan, Binding[] bindings, int row) {
+        Object instance = plan.newInstance();
+        try {
+            for (Binding b : bindings) {
+                Column column = b.column;
+                if (column == null) continue;
+                FieldWriter writer = b.step.writer;
+                switch (b.step.kind) {
+                    case VALUE -> {
+                        if (!column.isNull(row)) column.write(writer, instance, row);
+                    }
+                    case DTO -> {
+                        StructColumn struct = (StructColumn) column;
+                        if (struct.isOverridden(row)) {
+                            writer.set(instance, struct.override(row));
+                        } else if (!struct.isNull(row)) {
+                            writer.set(instance, build(b.nestedPlan, b.nested, row));
+                        }
+                    }
+                    case LIST -> {
+                        ListColumn list = (ListColumn) column;
+                        if (list.isOverridden(row)) {
+                            writer.set(instance, list.override(row));
+                        } else if (!list.isNull(row)) {
+                            int from = list.offsets[row];
+                            int to = list.offsets[row + 1];
+                            List<Object> values = new ArrayList<>(to - from);
+                            for (int e = from; e < to; e++) {
+                                values.add(b.nested != null ? build(b.nestedPlan, b.nested, e)
+                                        : b.elements == null ? null : b.elements.get(e));
+                            }
+                            writer.set(instance, values);
+                        }
+                    }
+                }
+            }
+            return instance;
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static final class Binding {
+        final GenerationPlan.FieldStep step;
+        final Column column;
+        GenerationPlan nestedPlan;
+        Binding[] nested;
+        Column elements;
+
+        Binding(GenerationPlan.FieldStep step, Column column) {
+            this.step = step;
+            this.column = column;
+        }
+    }
+
+    /** Колонка значений одного пути. Изначально все строки пустые ({@code isNull}), генерация их заполняет. */
+    public abstract static class Column {
+        private final String path;
+        private final Class<?> type;
+        final boolean[] nulls;
+
+        Column(String path, Class<?> type, int size) {
+            this.path = path;
+            this.type = type;
+            this.nulls = new boolean[size];
+            Arrays.fill(nulls, true);
+        }
+
+        public String path() {
+            return path;
+        }
+
+        /** Тип поля DTO (для списков — тип элемента). */
+        public Class<?> type() {
+            return type;
+        }
+
+        public int size() {
+            return nulls.length;
+        }
+
+        public boolean isNull(int row) {
+            return nulls[row];
+        }
+
+        /** Значение строки (с упаковкой для примитивных колонок) или {@code null}. */
+        public abstract Object get(int row);
+
+        abstract void set(int row, Object value);
+
+        void write(FieldWriter writer, Object target, int row) throws Throwable {
+            writer.set(target, get(row));
+        }
+
+        /** Последовательная запись в строки {@code rows}. */
+        ValueSink sink(int[] rows) {
+            return new ValueSink() {
+                private int next;
+
+                @Override
+                public void accept(Object value) {
+                    set(rows[next++], value);
+                }
+            };
+        }
+
+        IllegalStateException typeMismatch(Object value) {
+            return new IllegalStateException("Значение " + value.getClass().getName() + " не подходит для колонки "
+                    + path + " типа " + type.getName());
+        }
+    }
+
+    public static final class IntColumn extends Column {
+        private final int[] values;
+
+        IntColumn(String path, Class<?> type, int size) {
+            super(path, type, size);
+            this.values = new int[size];
+        }
+
+        public int[] values() {
+            return values;
+        }
+
+        public int getInt(int row) {
+            return values[row];
+        }
+
+        @Override
+        public Object get(int row) {
+            return nulls[row] ? null : values[row];
+        }
+
+        @Override
+        void set(int row, Object value) {
+            if (value == null) {
+                nulls[row] = true;
+            } else if (value instanceof Number n) {
+                values[row] = n.intValue();
+                nulls[row] = false;
+            } else {
+                throw typeMismatch(value);
+            }
+        }
+
+        @Override
+        void write(FieldWriter writer, Object target, int row) throws Throwable {
+            writer.setInt(target, values[row]);
+        }
+
+        @Override
+        ValueSink sink(int[] rows) {
+            return new ValueSink() {
+                private int next;
+
+                @Override
+                public void accept(Object value) {
+                    set(rows[next++], value);
+                }
+
+                @Override
+                public void acceptInt(int value) {
+                    int row = rows[next++];
+                    values[row] = value;
+                    nulls[row] = false;
+                }
+            };
+        }
+    }
+
+    public static final class LongColumn extends Column {
+        private final long[] values;
+
+        LongColumn(String path, Class<?> type, int size) {
+            super(path, type, size);
+            this.values = new long[size];
+        }
+
+        public long[] values() {
+            return values;
+        }
+
+        public long getLong(int row) {
+            return values[row];
+        }
+
+        @Override
+        public Object get(int row) {
+            return nulls[row] ? null : values[row];
+        }
+
+        @Override
+        void set(int row, Object value) {
+            if (value == null) {
+                nulls[row] = true;
+            } else if (value instanceof Number n) {
+                values[row] = n.longValue();
+                nulls[row] = false;
+            } else {
+                throw typeMismatch(value);
+            }
+        }
+
+        @Override
+        void write(FieldWriter writer, Object target, int row) throws Throwable {
+            writer.setLong(target, values[row]);
+        }
+
+        @Override
+        ValueSink sink(int[] rows) {
+            return new ValueSink() {
+                private int next;
+
+                @Override
+                public void accept(Object value) {
+                    set(rows[next++], value);
+                }
+
+                @Override
+                public void acceptLong(long value) {
+                    int row = rows[next++];
+                    values[row] = value;
+                    nulls[row] = false;
+                }
+            };
+        }
+    }
+
+    public static final class DoubleColumn extends Column {
+        private final double[] values;
+
+        DoubleColumn(String path, Class<?> type, int size) {
+            super(path, type, size);
+            this.values = new double[size];
+        }
+
+        public double[] values() {
+            return values;
+        }
+
+        public double getDouble(int row) {
+            return values[row];
+        }
+
+        @Override
+        public Object get(int row) {
+            return nulls[row] ? null : values[row];
+        }
+
+        @Override
+        void set(int row, Object value) {
+            if (value == null) {
+                nulls[row] = true;
+            } else if (value instanceof Number n) {
+                values[row] = n.doubleValue();
+                nulls[row] = false;
+            } else {
+                throw typeMismatch(value);
+            }
+        }
+
+        @Override
+        void write(FieldWriter writer, Object target, int row) throws Throwable {
+            writer.setDouble(target, values[row]);
+        }
+
+        @Override
+        ValueSink sink(int[] rows) {
+            return new ValueSink() {
+                private int next;
+
+                @Override
+                public void accept(Object value) {
+                    set(rows[next++], value);
+                }
+
+                @Override
+                public void acceptDouble(double value) {
+                    int row = rows[next++];
+                    values[row] = value;
+                    nulls[row] = false;
+                }
+            };
+        }
+    }
+
+    /** Ссылочные значения; для строковых полей массив имеет тип {@code String[]}. */
+    public static final class ObjectColumn extends Column {
+        private final Object[] values;
+
+        ObjectColumn(String path, Class<?> type, int size) {
+            super(path, type, size);
+            this.values = type.isPrimitive() ? new Object[size] : (Object[]) Array.newInstance(type, size);
+        }
+
+        public Object[] values() {
+            return values;
+        }
+
+        @Override
+        public Object get(int row) {
+            return values[row];
+        }
+
+        @Override
+        void set(int row, Object value) {
+            try {
+                values[row] = value;
+            } catch (ArrayStoreException e) {
+                throw typeMismatch(value);
+            }
+            nulls[row] = value == null;
+        }
+    }
+
+    /**
+     * Вложенный DTO: отмечает строки, где объект есть; поля объекта лежат в колонках {@code path.поле}.
+     * Значение, заданное через {@code setValue} целиком, хранится как есть и имеет приоритет.
+     */
+    public static final class StructColumn extends Column {
+        private Object[] overrides;
+
+        StructColumn(String path, Class<?> type, int size) {
+            super(path, type, size);
+        }
+
+        public boolean isOverridden(int row) {
+            return overrides != null && overrides[row] != null;
+        }
+
+        /** Значение из {@code setValue} для строки или {@code null}. */
+        public Object override(int row) {
+            return overrides == null ? null : unwrap(overrides[row]);
+        }
+
+        @Override
+        public Object get(int row) {
+            return override(row);
+        }
+
+        void present(int row) {
+            nulls[row] = false;
+        }
+
+        @Override
+        void set(int row, Object value) {
+            if (overrides == null) overrides = new Object[nulls.length];
+            overrides[row] = value == null ? NULL : value;
+            nulls[row] = value == null;
+        }
+    }
+
+    /** Список: границы элементов строки {@code row} — {@code [offsets[row], offsets[row + 1])}. */
+    public static final class ListColumn extends Column {
+        private final int[] offsets;
+        private Object[] overrides;
+
+        ListColumn(String path, Class<?> elementType, int size) {
+            super(path, elementType, size);
+            this.offsets = new int[size + 1];
+        }
+
+        public int[] offsets() {
+            return offsets;
+        }
+
+        public int length(int row) {
+            return offsets[row + 1] - offsets[row];
+        }
+
+        public boolean isOverridden(int row) {
+            return overrides != null && overrides[row] != null;
+        }
+
+        public Object override(int row) {
+            return overrides == null ? null : unwrap(overrides[row]);
+        }
+
+        @Override
+        public Object get(int row) {
+            return override(row);
+        }
+
+        void present(int row) {
+            nulls[row] = false;
+        }
+
+        @Override
+        void set(int row, Object value) {
+            if (overrides == null) overrides = new Object[nulls.length];
+            overrides[row] = value == null ? NULL : value;
+            nulls[row] = value == null;
+        }
+    }
+
+    /** Маркер явно заданного {@code null} среди переопределений. */
+    private static final Object NULL = new Object();
+
+    private static Object unwrap(Object override) {
+        return override == NULL ? null : override;
+    }
+
+    static Column column(String path, Class<?> type, int size) {
+        if (type == int.class || type == Integer.class) return new IntColumn(path, type, size);
+        if (type == long.class || type == Long.class) return new LongColumn(path, type, size);
+        if (type == double.class || type == Double.class) return new DoubleColumn(path, type, size);
+        return new ObjectColumn(path, type, size);
+    }
+}
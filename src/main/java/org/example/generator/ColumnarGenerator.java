@@ -0,0 +1,234 @@
+package org.example.generator;
+
+import com.github.javafaker.Faker;
+import org.example.config.InvalidDataType;
+import org.example.config.InvalidFieldConfig;
+import org.example.generator.dataGenerator.repository.FieldGenerator;
+import org.example.generator.dataGenerator.repository.GeneratorRegistry;
+import org.example.generator.dataGenerator.repository.ValueSink;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Колоночная генерация: план DTO обходится поле за полем по всей пачке, а не запись за записью.
+ * Строки уровня разбиты на группы с одинаковым курсором правил ({@link PathTrie}) и локалью —
+ * на верхнем уровне это одна группа, у элементов списков группа определяется индексом элемента.
+ * Для каждой группы колонка заполняется одним пакетным вызовом генератора с одним Faker.
+ * <p>
+ * Правила те же, что в построчной генерации (setValue до фильтров, invalidate, withFixedListSize, локали,
+ * элементы-DTO без фильтров required/tags). Случайность сеется от базового сида, пути и группы,
+ * поэтому результат воспроизводим по {@code withSeed}, но не совпадает со значениями {@code buildList}.
+ */
+final class ColumnarGenerator {
+
+    private final PathTrie rules;
+    private final GeneratorRegistry.Generators generators;
+    private final RandomSource random;
+    private final long baseSeed;
+
+    ColumnarGenerator(PathTrie rules, GeneratorRegistry.Generators generators, RandomSource random, long baseSeed) {
+        this.rules = rules;
+        this.generators = generators;
+        this.random = random;
+        this.baseSeed = baseSeed;
+    }
+
+    <T> ColumnBatch<T> generate(Class<T> clazz, int count, boolean onlyRequired, Set<String> requiredTags, Locale locale) {
+        Map<String, ColumnBatch.Column> columns = new LinkedHashMap<>();
+        Level root = new Level(count, new int[count], new PathTrie.Node[][]{rules.root()}, new Locale[]{locale});
+        fillStruct(clazz, "", root, onlyRequired, requiredTags, columns);
+        return new ColumnBatch<>(clazz, count, columns);
+    }
+
+    private void fillStruct(Class<?> clazz, String prefix, Level level, boolean onlyRequired, Set<String> requiredTags,
+                            Map<String, ColumnBatch.Column> columns) {
+        int groups = level.cursors.length;
+        for (GenerationPlan.FieldStep step : GenerationPlan.of(clazz).steps()) {
+            String path = prefix + step.name;
+            PathTrie.Node[][] cursors = new PathTrie.Node[groups][];
+            PathTrie.Node[] manual = new PathTrie.Node[groups];
+            boolean anyManual = false;
+            for (int g = 0; g < groups; g++) {
+                cursors[g] = PathTrie.descend(level.cursors[g], step.name);
+                manual[g] = PathTrie.manual(cursors[g]);
+                anyManual |= manual[g] != null;
+            }
+            boolean skipped = step.isSkipped(onlyRequired, requiredTags);
+            if (skipped && !anyManual) continue;
+
+            switch (step.kind) {
+                case VALUE -> {
+                    ColumnBatch.Column column = ColumnBatch.column(path, step.type, level.size);
+                    columns.put(path, column);
+                    for (int g = 0; g < groups; g++) {
+                        int[] rows = level.rows[g];
+                        if (rows.length == 0) continue;
+                        if (manual[g] != null) {
+                            for (int row : rows) column.set(row, manual[g].manualValue());
+                        } else if (!skipped) {
+                            generateColumn(step, path, g, cursors[g], PathTrie.locale(cursors[g], level.locales[g]),
+                                    rows, column);
+                        }
+                    }
+                }
+                case DTO -> {
+                    ColumnBatch.StructColumn struct = new ColumnBatch.StructColumn(path, step.type, level.size);
+                    columns.put(path, struct);
+                    int[] nestedGroup = new int[level.size];
+                    Arrays.fill(nestedGroup, -1);
+                    Locale[] nestedLocales = new Locale[groups];
+                    boolean any = false;
+                    for (int g = 0; g < groups; g++) {
+                        nestedLocales[g] = PathTrie.locale(cursors[g], level.locales[g]);
+                        for (int row : level.rows[g]) {
+                            if (manual[g] != null) {
+                                struct.set(row, manual[g].manualValue());
+                            } else if (!skipped) {
+                                struct.present(row);
+                                nestedGroup[row] = g;
+                                any = true;
+                            }
+                        }
+                    }
+                    if (any) {
+                        fillStruct(step.type, path + ".", new Level(level.size, nestedGroup, cursors, nestedLocales),
+                                onlyRequired, requiredTags, columns);
+                    }
+                }
+                case LIST -> fillList(step, path, level, cursors, manual, skipped, columns);
+            }
+        }
+    }
+
+    private void fillList(GenerationPlan.FieldStep step, String path, Level level, PathTrie.Node[][] cursors,
+                          PathTrie.Node[] manual, boolean skipped, Map<String, ColumnBatch.Column> columns) {
+        if (step.elemType == null) {
+            throw new IllegalStateException("Не удалось определить тип элементов списка " + step.field);
+        }
+        int groups = cursors.length;
+        ColumnBatch.ListColumn list = new ColumnBatch.ListColumn(path, step.elemType, level.size);
+        columns.put(path, list);
+        int[] lengths = new int[level.size];
+        for (int g = 0; g < groups; g++) {
+            int[] rows = level.rows[g];
+            if (rows.length == 0) continue;
+            if (manual[g] != null) {
+                for (int row : rows) list.set(row, manual[g].manualValue());
+                continue;
+            }
+            if (skipped) continue;
+            int fixed = PathTrie.fixedSize(cursors[g]);
+            random.reseed(seed(path + "#size", g));
+            int min = step.listCfg.minItems();
+            int max = step.listCfg.maxItems();
+            for (int row : rows) {
+                list.present(row);
+                // как numberBetween у Faker: верхняя граница не включается
+                lengths[row] = fixed >= 0 ? fixed : max <= min ? min : min + random.nextInt(max - min);
+            }
+        }
+        int[] offsets = list.offsets();
+        for (int row = 0; row < level.size; row++) {
+            offsets[row + 1] = offsets[row] + lengths[row];
+        }
+        int total = offsets[level.size];
+        if (total == 0) return;
+
+        // группа элемента — (группа строки, индекс в списке): у них одинаковые правила [i] и *
+        int[] elemGroup = new int[total];
+        int[][] ids = new int[groups][];
+        List<PathTrie.Node[]> elemCursors = new ArrayList<>();
+        List<Locale> elemLocales = new ArrayList<>();
+        for (int row = 0; row < level.size; row++) {
+            int g = level.rowGroup[row];
+            for (int k = 0; k < lengths[row]; k++) {
+                if (ids[g] == null || ids[g].length <= k) {
+                    int[] grown = new int[Math.max(k + 1, ids[g] == null ? 8 : ids[g].length * 2)];
+                    Arrays.fill(grown, -1);
+                    if (ids[g] != null) System.arraycopy(ids[g], 0, grown, 0, ids[g].length);
+                    ids[g] = grown;
+                }
+                if (ids[g][k] < 0) {
+                    ids[g][k] = elemCursors.size();
+                    elemCursors.add(PathTrie.descendIndex(cursors[g], k));
+                    elemLocales.add(level.locales[g]);
+                }
+                elemGroup[offsets[row] + k] = ids[g][k];
+            }
+        }
+        Level elements = new Level(total, elemGroup, elemCursors.toArray(PathTrie.Node[][]::new),
+                elemLocales.toArray(Locale[]::new));
+        if (step.elemIsDto) {
+            fillStruct(step.elemType, path + "[*].", elements, false, Set.of(), columns);
+            return;
+        }
+        String elemPath = path + "[*]";
+        ColumnBatch.Column column = ColumnBatch.column(elemPath, step.elemType, total);
+        columns.put(elemPath, column);
+        for (int g = 0; g < elements.cursors.length; g++) {
+            PathTrie.Node[] cursor = elements.cursors[g];
+            generateColumn(step, elemPath, g, cursor, PathTrie.locale(cursor, elements.locales[g]), elements.rows[g], column);
+        }
+    }
+
+    private void generateColumn(GenerationPlan.FieldStep step, String path, int group, PathTrie.Node[] cursor,
+                                Locale locale, int[] rows, ColumnBatch.Column column) {
+        random.reseed(seed(path, group));
+        Faker faker = FakerPool.faker(locale, random);
+        FieldGenerator gen = generators.get(step.generatorIndex);
+        InvalidFieldConfig invalid = PathTrie.invalid(cursor);
+        UniqueSet unique = PathTrie.unique(cursor);
+        if (unique != null) {
+            // проверка каждого значения: пакетный вызов не умеет перегенерировать отдельный элемент
+            InvalidDataType invType = invalid == null ? null : invalid.getInvalidType();
+            ValueSink sink = column.sink(rows);
+            for (int i = 0; i < rows.length; i++) {
+                Object value = invType != null ? gen.generateInvalid(step.field, step.cfg, invType, faker, random)
+                        : gen.generateValid(step.field, faker, step.cfg, random);
+                sink.accept(RecordGenerator.ensureUnique(unique, value, gen, step.field, step.cfg, invType, faker, random));
+            }
+        } else if (invalid != null) {
+            gen.generateInvalidBatch(step.field, step.cfg, invalid.getInvalidType(), faker, random, rows.length, column.sink(rows));
+        } else {
+            gen.generateValidBatch(step.field, faker, step.cfg, random, rows.length, column.sink(rows));
+        }
+    }
+
+    /** Сид колонки не зависит от порядка обхода: только базовый сид, путь и группа. */
+    private long seed(String path, int group) {
+        return RecordGenerator.recordSeed(baseSeed + path.hashCode(), group);
+    }
+
+    /** Строки одного уровня вложенности и их группы правил; {@code rowGroup[row] == -1} — строка не участвует. */
+    private static final class Level {
+        final int size;
+        final int[] rowGroup;
+        final PathTrie.Node[][] cursors;
+        final Locale[] locales;
+        final int[][] rows;
+
+        Level(int size, int[] rowGroup, PathTrie.Node[][] cursors, Locale[] locales) {
+            this.size = size;
+            this.rowGroup = rowGroup;
+            this.cursors = cursors;
+            this.locales = locales;
+            int[] counts = new int[cursors.length];
+            for (int g : rowGroup) {
+                if (g >= 0) counts[g]++;
+            }
+            this.rows = new int[cursors.length][];
+            for (int g = 0; g < cursors.length; g++) rows[g] = new int[counts[g]];
+            int[] next = new int[cursors.length];
+            for (int row = 0; row < size; row++) {
+                int g = rowGroup[row];
+                if (g >= 0) rows[g][next[g]++] = row;
+            }
+        }
+    }
+}
@@ -1,21 +1,35 @@
 // CoreDataGenerator.java
 package org.example.generator;
 
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.github.javafaker.Faker;
-import org.example.ConfigurableGenerator;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import org.example.config.*;
-import org.example.generator.dataGenerator.impl.DefaultFieldGenerator;
-import org.example.generator.dataGenerator.repository.FieldGenerator;
+import org.example.generator.dataGenerator.repository.GeneratorRegistry;
+import org.example.generator.dataset.DatasetReader;
+import org.example.generator.dataset.DatasetWriter;
+import org.example.generator.jfr.BuilderSetupEvent;
+import org.example.generator.jfr.JsonSerializationEvent;
 
 
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.lang.annotation.*;
-import java.lang.reflect.*;
+import java.nio.file.Files;
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 public class CoreDataGenerator {
     private static final ObjectMapper objectMapper = new ObjectMapper();
+    /** Компактный writer без flush после каждой записи — сбросом управляет буфер генератора. */
+    private static final ObjectWriter streamWriter = objectMapper.writer()
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    private static final int FILE_BUFFER_SIZE = 1 << 16;
 
     @Retention(RetentionPolicy.RUNTIME)
     @Target(ElementType.TYPE)
@@ -34,6 +48,10 @@ public class CoreDataGenerator {
             this.segments = new ArrayList<>(segments);
         }
 
+        List<String> segments() {
+            return segments;
+        }
+
         public boolean matches(List<String> path) {
             if (segments.size() != path.size()) return false;
             for (int i = 0; i < segments.size(); i++) {
@@ -55,7 +73,15 @@ public class CoreDataGenerator {
         private final List<Map.Entry<PathPattern, Integer>> fixedSizes = new ArrayList<>();
         private final Map<PathPattern, Object> manualValues = new LinkedHashMap<>();
         private final Map<PathPattern, Locale> fieldLocales = new LinkedHashMap<>();
+        private final List<PathPattern> uniquePaths = new ArrayList<>();
+        private volatile List<UniqueSet> lastUnique = List.of();
         private Locale dtoLocale;
+        private String[] localeCandidates;
+        private Long seed;
+        private Supplier<? extends RandomSource> randomSources = RandomSource::splittable;
+        private int parallelism = 1;
+        private StatsCollector stats;
+        private Set<Class<?>> flyweightTypes;
         private boolean onlyRequired = false;
         private final Set<String> requiredTags = new HashSet<>();
         private boolean useRussianPassport = false;
@@ -64,8 +90,7 @@ public class CoreDataGenerator {
         public Builder(Class<T> clazz) {
             this.clazz = clazz;
             if (clazz.isAnnotationPresent(TestDataLocale.class)) {
-                String[] vals = clazz.getAnnotation(TestDataLocale.class).value();
-                this.dtoLocale = Locale.forLanguageTag(vals[new Random().nextInt(vals.length)]);
+                this.localeCandidates = clazz.getAnnotation(TestDataLocale.class).value();
             }
         }
 
@@ -84,6 +109,24 @@ public class CoreDataGenerator {
             return this;
         }
 
+        /**
+         * Значения поля по пути не повторяются в пределах одного запуска (buildList, stream, writeJson...):
+         * при совпадении генератор вызывается снова, не больше 64 раз,
+         * затем {@link IllegalStateException}. {@code null} и значения из {@link #setValue} не проверяются.
+         * При параллельной генерации с совпадениями то, какая запись получит повтор, зависит от порядка потоков.
+         */
+        public Builder<T> unique(List<String> path) {
+            uniquePaths.add(new PathPattern(path));
+            return this;
+        }
+
+        /** Число значений, повторов и память вне кучи по каждому {@link #unique} пути последнего запуска. */
+        public List<UniqueStats> uniqueStats() {
+            List<UniqueStats> out = new ArrayList<>();
+            for (UniqueSet set : lastUnique) out.add(set.snapshot());
+            return out;
+        }
+
         public Builder<T> onlyRequired() {
             this.onlyRequired = true;
             return this;
@@ -99,6 +142,64 @@ public class CoreDataGenerator {
             return this;
         }
 
+        /**
+         * Фиксирует базовый сид: одинаковый сид и одинаковые правила дают одинаковые данные
+         * независимо от числа потоков. Без сида базовый сид выбирается случайно на каждый buildList().
+         */
+        public Builder<T> withSeed(long seed) {
+            this.seed = seed;
+            return this;
+        }
+
+        /**
+         * Источник случайности для Faker и генераторов полей; фабрика вызывается один раз на рабочий поток.
+         * По умолчанию — {@link RandomSource#splittable()}.
+         */
+        public Builder<T> withRandomSource(Supplier<? extends RandomSource> factory) {
+            this.randomSources = Objects.requireNonNull(factory);
+            return this;
+        }
+
+        /** Параллельная генерация на всех доступных ядрах. */
+        public Builder<T> parallel() {
+            return parallel(Runtime.getRuntime().availableProcessors());
+        }
+
+        /**
+         * Параллельная генерация в общем на JVM ForkJoinPool заданного размера; 1 — последовательно.
+         * Потоки пула и их Faker-ы переиспользуются следующими запусками.
+         */
+        public Builder<T> parallel(int parallelism) {
+            if (parallelism < 1) throw new IllegalArgumentException("parallelism должен быть >= 1: " + parallelism);
+            this.parallelism = parallelism;
+            return this;
+        }
+
+        /**
+         * Включает сбор {@link GenerationStats}: число вызовов, время и аллоцированные байты
+         * по генераторам, путям полей и локалям. Метрики копятся по всем запускам билдера.
+         */
+        public Builder<T> withStats() {
+            if (stats == null) stats = new StatsCollector();
+            return this;
+        }
+
+        /**
+         * Режим flyweight для больших списков в памяти: строки словарных генераторов (имена, города, улицы)
+         * канонизируются в ограниченном пуле, а вложенные DTO из {@code sharedTypes} без правил в поддереве
+         * берутся из небольшого пула общих экземпляров. Общие DTO нельзя менять в тестах: изменение видно всем записям.
+         * Данные отличаются от генерации без flyweight; экономия — в {@link GenerationStats#getFlyweight()}.
+         */
+        public Builder<T> withFlyweight(Class<?>... sharedTypes) {
+            this.flyweightTypes = Set.of(sharedTypes);
+            return this;
+        }
+
+        /** Снимок накопленных метрик; {@link GenerationStats#EMPTY}, если {@link #withStats()} не вызывался. */
+        public GenerationStats stats() {
+            return stats == null ? GenerationStats.EMPTY : stats.snapshot();
+        }
+
         public Builder<T> setFieldLocale(List<String> path, String localeTag) {
             fieldLocales.put(new PathPattern(path), Locale.forLanguageTag(localeTag));
             return this;
@@ -118,163 +219,182 @@ public class CoreDataGenerator {
             return buildList(1).get(0);
         }
 
+        /**
+         * Компилирует текущие правила в неизменяемый потокобезопасный {@link GenerationTemplate}:
+         * разбор правил и настройка генераторов выполняются один раз, дальше шаблон только генерирует.
+         * Без {@link #withSeed(long)} базовый сид выбирается случайно один раз на шаблон.
+         */
+        public GenerationTemplate<T> template() {
+            return new GenerationTemplate<>(compile());
+        }
+
         public List<T> buildList(int count) {
+            return buildList(count, parallelism);
+        }
+
+        public List<T> buildList(int count, int parallelism) {
+            return compile().generateList(count, parallelism);
+        }
+
+        /**
+         * Генерирует {@code count} записей и отдаёт их {@code sink} строками таблиц (см. {@link RecordSink}).
+         * Генерация идёт в отдельном потоке (с учётом {@link #parallel(int)}) через ограниченную очередь,
+         * поэтому генератор и приёмник работают одновременно, а в памяти лежат лишь несколько блоков записей.
+         *
+         * @return количество записанных корневых записей
+         */
+        public long buildInto(long count, RecordSink sink) {
+            if (count < 0) throw new IllegalArgumentException("count должен быть >= 0: " + count);
+            return compile().generateInto(count, Objects.requireNonNull(sink), parallelism);
+        }
+
+        /**
+         * Колоночная генерация {@code count} записей в примитивные массивы и {@code String[]}:
+         * поле за полем по всей пачке, с одним генератором и Faker на колонку. Объекты DTO создаются
+         * только по запросу ({@link ColumnBatch#get(int)}, {@link ColumnBatch#materialize()}).
+         * Правила билдера действуют так же, как в {@link #buildList(int)}, но значения отличаются от построчных.
+         */
+        public ColumnBatch<T> buildColumns(int count) {
+            if (count < 0) throw new IllegalArgumentException("count должен быть >= 0: " + count);
+            return compile().generateColumns(count);
+        }
+
+        /**
+         * Бесконечный ленивый поток записей: каждая генерируется по запросу,
+         * поэтому {@code stream().limit(n)} работает с постоянной памятью.
+         */
+        public Stream<T> stream() {
+            return compile().stream(-1);
+        }
+
+        /** Ленивый поток ровно из {@code count} записей; совпадает с {@code buildList(count)} при том же сиде. */
+        public Stream<T> stream(long count) {
+            if (count < 0) throw new IllegalArgumentException("count должен быть >= 0: " + count);
+            return compile().stream(count);
+        }
+
+        /** Бесконечный ленивый итератор записей. */
+        public Iterator<T> iterator() {
+            return compile().iterator(-1);
+        }
+
+        /** Ленивый итератор ровно из {@code count} записей. */
+        public Iterator<T> iterator(long count) {
+            if (count < 0) throw new IllegalArgumentException("count должен быть >= 0: " + count);
+            return compile().iterator(count);
+        }
+
+        /**
+         * Генерирует {@code count} записей и сразу пишет их в поток, не накапливая ни объекты, ни текст.
+         * Поток не закрывается.
+         */
+        public long writeJson(OutputStream out, long count, JsonFormat format) {
+            return CoreDataGenerator.writeJson(out, iterator(count), format);
+        }
+
+        /** То же, что {@link #writeJson(OutputStream, long, JsonFormat)}, но в файл (перезаписывается). */
+        public long writeJson(java.nio.file.Path file, long count, JsonFormat format) {
+            return CoreDataGenerator.writeJson(file, iterator(count), format);
+        }
+
+        /**
+         * Генерирует {@code count} записей в бинарный датасет (перезаписывается), который затем читается
+         * с произвольным доступом по индексу через {@link DatasetReader}.
+         */
+        public long writeDataset(java.nio.file.Path file, long count) {
+            return DatasetWriter.write(file, clazz, iterator(count));
+        }
+
+        RecordGenerator<T> compile() {
+            BuilderSetupEvent event = new BuilderSetupEvent();
+            event.begin();
             GeneratorConfig ctx = new GeneratorConfig()
                     .setUseRussianPassport(useRussianPassport)
                     .setUseInnForUl(useInnForUl);
 
-            List<FieldGenerator> generators = ServiceLoader
-                    .load(FieldGenerator.class)
-                    .stream()
-                    .map(ServiceLoader.Provider::get)
-                    .collect(Collectors.toList());
+            GeneratorRegistry.Generators generators = GeneratorRegistry.getInstance().configure(ctx);
+            PathTrie rules = PathTrie.compile(invalidPatterns, fixedSizes, manualValues, fieldLocales, uniquePaths);
+            lastUnique = rules.uniqueSets();
 
-            for (FieldGenerator gen : generators) {
-                if (gen instanceof ConfigurableGenerator cg) {
-                    cg.configure(ctx);
-                }
+            long baseSeed = seed != null ? seed : new SplittableRandom().nextLong();
+            Locale locale = dtoLocale;
+            if (locale == null && localeCandidates != null) {
+                // выбор локали из @TestDataLocale тоже зависит только от сида
+                locale = Locale.forLanguageTag(localeCandidates[new SplittableRandom(baseSeed).nextInt(localeCandidates.length)]);
             }
-
-            return Collections.nCopies(count, clazz).stream()
-                    .map(c -> generateFilteredData(
-                            clazz, onlyRequired, requiredTags,
-                            new ArrayList<>(), new HashSet<>(),
-                            invalidPatterns, fixedSizes, fieldLocales,
-                            dtoLocale, new HashMap<>(), generators, manualValues
-                    ))
-                    .collect(Collectors.toList());
+            if (event.shouldCommit()) {
+                event.dtoClass = clazz;
+                event.locale = String.valueOf(locale);
+                event.seed = baseSeed;
+                event.explicitSeed = seed != null;
+                event.commit();
+            }
+            Flyweight flyweight = flyweightTypes == null ? null : new Flyweight(flyweightTypes, stats);
+            return new RecordGenerator<>(clazz, onlyRequired, requiredTags, rules, locale, generators, baseSeed,
+                    randomSources, stats, flyweight);
         }
     }
 
-    private static <T> T generateFilteredData(
-            Class<T> clazz, boolean onlyRequired, Set<String> requiredTags,
-            List<String> parentPath, Set<List<String>> processedPaths,
-            List<Map.Entry<PathPattern, InvalidFieldConfig>> invalidPatterns,
-            List<Map.Entry<PathPattern, Integer>> fixedSizes,
-            Map<PathPattern, Locale> fieldLocales,
-            Locale dtoLocale, Map<Locale, Faker> fakerCache,
-            List<FieldGenerator> generators,
-            Map<PathPattern, Object> manualValues
-    ) {
-        try {
-            if (!processedPaths.add(new ArrayList<>(parentPath))) return null;
-            T instance = clazz.getDeclaredConstructor().newInstance();
-            for (Field field : clazz.getDeclaredFields()) {
-                field.setAccessible(true);
-
-                List<String> path = new ArrayList<>(parentPath);
-                path.add(field.getName());
-
-                // 1. Установка ручного значения
-                Optional<Map.Entry<PathPattern, Object>> manual = manualValues.entrySet().stream()
-                        .filter(e -> e.getKey().matches(path)).findFirst();
-                if (manual.isPresent()) {
-                    field.set(instance, manual.get().getValue());
-                    continue;
+    /**
+     * Потоково пишет записи через Jackson {@link JsonGenerator}: в памяти одновременно
+     * находится только текущая запись и буфер генератора. Поток не закрывается.
+     *
+     * @return количество записанных записей
+     */
+    public static long writeJson(OutputStream out, Iterator<?> records, JsonFormat format) {
+        // при ленивом итераторе событие включает и генерацию записей
+        JsonSerializationEvent event = new JsonSerializationEvent();
+        event.begin();
+        try (JsonGenerator gen = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+            gen.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            long written = 0;
+            if (format == JsonFormat.ARRAY) {
+                gen.writeStartArray();
+                while (records.hasNext()) {
+                    streamWriter.writeValue(gen, records.next());
+                    written++;
                 }
-
-                InvalidDataConfig cfg = field.getAnnotation(InvalidDataConfig.class);
-                TestListConfig listCfg = field.getAnnotation(TestListConfig.class);
-                if (cfg == null || (onlyRequired && !cfg.required()) ||
-                        (!requiredTags.isEmpty() && Collections.disjoint(Arrays.asList(cfg.tags()), requiredTags)))
-                    continue;
-
-                // 2. Определяем локаль
-                Locale fieldLocale = fieldLocales.entrySet().stream()
-                        .filter(e -> e.getKey().matches(path))
-                        .map(Map.Entry::getValue)
-                        .findFirst()
-                        .orElse(dtoLocale);
-                Faker faker = fakerCache.computeIfAbsent(fieldLocale, Faker::new);
-
-                // 3. Генерация данных
-                Class<?> type = field.getType();
-                InvalidFieldConfig invCfg = invalidPatterns.stream()
-                        .filter(e -> e.getKey().matches(path))
-                        .map(Map.Entry::getValue)
-                        .findFirst().orElse(null);
-                boolean isInvalid = invCfg != null;
-                InvalidDataType invType = isInvalid ? invCfg.getInvalidType() : null;
-
-                if (List.class.equals(type)) {
-                    int size = fixedSizes.stream()
-                            .filter(e -> e.getKey().matches(path))
-                            .map(Map.Entry::getValue)
-                            .findFirst().orElse(-1);
-                    Object listObj = generateListField(field, cfg, listCfg, path, size,
-                            invalidPatterns, fieldLocales, dtoLocale, fakerCache, generators, manualValues);
-                    field.set(instance, listObj);
-                } else if (isCustomDtoType(type)) {
-                    Object nested = generateFilteredData(type, onlyRequired, requiredTags,
-                            path, processedPaths, invalidPatterns, fixedSizes, fieldLocales,
-                            fieldLocale, fakerCache, generators, manualValues);
-                    field.set(instance, nested);
-                } else {
-                    FieldGenerator gen = generators.stream()
-                            .filter(g -> g.supports(field)).findFirst()
-                            .orElse(new DefaultFieldGenerator());
-                    Object val = isInvalid ? gen.generateInvalid(field, cfg, invType, faker)
-                            : gen.generateValid(field, faker, cfg);
-                    field.set(instance, val);
+                gen.writeEndArray();
+            } else {
+                // разделитель корневых значений по умолчанию — пробел; в NDJSON каждая запись заканчивается \n
+                gen.setRootValueSeparator(null);
+                while (records.hasNext()) {
+                    streamWriter.writeValue(gen, records.next());
+                    gen.writeRaw('\n');
+                    written++;
                 }
             }
-            return instance;
-        } catch (Exception e) {
-            throw new RuntimeException(e);
-        }
-    }
-
-    private static List<Object> generateListField(
-            Field field, InvalidDataConfig cfg, TestListConfig listCfg,
-            List<String> path, int fixedSize,
-            List<Map.Entry<PathPattern, InvalidFieldConfig>> invalidPatterns,
-            Map<PathPattern, Locale> fieldLocales,
-            Locale dtoLocale, Map<Locale, Faker> fakerCache,
-            List<FieldGenerator> generators,
-            Map<PathPattern, Object> manualValues
-    ) {
-        List<Object> list = new ArrayList<>();
-        Faker baseFaker = fakerCache.computeIfAbsent(dtoLocale, Faker::new);
-        int size = fixedSize >= 0 ? fixedSize :
-                baseFaker.number().numberBetween(listCfg.minItems(), listCfg.maxItems());
-        Class<?> elemType = (Class<?>) ((ParameterizedType) field.getGenericType()).getActualTypeArguments()[0];
-
-        for (int i = 0; i < size; i++) {
-            List<String> idxPath = new ArrayList<>(path);
-            idxPath.add("[" + i + "]");
-            Object elem;
-            if (isCustomDtoType(elemType)) {
-                elem = generateFilteredData(elemType, false, Collections.emptySet(),
-                        idxPath, new HashSet<>(), invalidPatterns, Collections.emptyList(),
-                        fieldLocales, dtoLocale, fakerCache, generators, manualValues);
-            } else {
-                InvalidFieldConfig inv = invalidPatterns.stream()
-                        .filter(e -> e.getKey().matches(idxPath))
-                        .map(Map.Entry::getValue)
-                        .findFirst().orElse(null);
-                boolean invFlag = inv != null;
-                InvalidDataType invType = invFlag ? inv.getInvalidType() : null;
-
-                Locale elemLocale = fieldLocales.entrySet().stream()
-                        .filter(e -> e.getKey().matches(idxPath))
-                        .map(Map.Entry::getValue)
-                        .findFirst().orElse(dtoLocale);
-                Faker faker = fakerCache.computeIfAbsent(elemLocale, Faker::new);
-                FieldGenerator gen = generators.stream().filter(g -> g.supports(field)).findFirst().orElse(new DefaultFieldGenerator());
-                elem = invFlag ? gen.generateInvalid(field, cfg, invType, faker) : gen.generateValid(field, faker, cfg);
+            gen.flush();
+            if (event.shouldCommit()) {
+                event.format = format.name();
+                event.records = written;
+                event.commit();
             }
-            list.add(elem);
+            return written;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         }
-        return list;
     }
 
-    private static boolean isCustomDtoType(Class<?> type) {
-        return type.getPackageName().startsWith("org.example.DTO");
+    public static long writeJson(java.nio.file.Path file, Iterator<?> records, JsonFormat format) {
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(file), FILE_BUFFER_SIZE)) {
+            return writeJson(out, records, format);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 
     public static String toJson(Object obj) {
+        JsonSerializationEvent event = new JsonSerializationEvent();
+        event.begin();
         try {
-            return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(obj);
+            String json = objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(obj);
+            if (event.shouldCommit()) {
+                event.format = "PRETTY";
+                event.records = obj instanceof Collection<?> c ? c.size() : 1;
+                event.commit();
+            }
+            return json;
         } catch (Exception e) {
             throw new RuntimeException(e);
         }
@@ -0,0 +1,40 @@
+package org.example.generator;
+
+import java.util.function.LongFunction;
+import java.util.random.RandomGenerator;
+
+/** Источник поверх произвольного {@link RandomGenerator}; при пересеве генератор создаётся заново. */
+final class DelegatingRandomSource implements RandomSource {
+    private final LongFunction<? extends RandomGenerator> factory;
+    private RandomGenerator delegate;
+
+    DelegatingRandomSource(LongFunction<? extends RandomGenerator> factory) {
+        this.factory = factory;
+        this.delegate = factory.apply(0L);
+    }
+
+    @Override
+    public void reseed(long seed) {
+        this.delegate = factory.apply(seed);
+    }
+
+    @Override
+    public long nextLong() {
+        return delegate.nextLong();
+    }
+
+    @Override
+    public int nextInt() {
+        return delegate.nextInt();
+    }
+
+    @Override
+    public int nextInt(int bound) {
+        return delegate.nextInt(bound);
+    }
+
+    @Override
+    public double nextDouble() {
+        return delegate.nextDouble();
+    }
+}
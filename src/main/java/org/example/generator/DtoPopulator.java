@@ -0,0 +1,30 @@
+package org.example.generator;
+
+import java.util.List;
+
+/**
+ * Заполнение DTO без рефлексии. Реализации генерирует процессор аннотаций на этапе компиляции
+ * ({@code <Dto>Populator} в пакете DTO): конструктор и прямые вызовы сеттеров в {@code switch} по индексу поля.
+ * {@link GenerationPlan} использует популятор, если он найден, и рефлексию для всего остального.
+ */
+public interface DtoPopulator<T> {
+
+    T newInstance();
+
+    /** Имена полей в порядке индексов; поля, которых здесь нет, заполняются через рефлексию. */
+    List<String> fieldNames();
+
+    void set(T target, int field, Object value);
+
+    default void setInt(T target, int field, int value) {
+        set(target, field, value);
+    }
+
+    default void setLong(T target, int field, long value) {
+        set(target, field, value);
+    }
+
+    default void setDouble(T target, int field, double value) {
+        set(target, field, value);
+    }
+}
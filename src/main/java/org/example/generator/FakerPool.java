@@ -0,0 +1,58 @@
+package org.example.generator;
+
+import com.github.javafaker.Faker;
+import org.example.generator.dataGenerator.dictionary.DictionaryFaker;
+import org.example.generator.jfr.FakerCreationEvent;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * JVM-общий пул Faker-ов: у каждого потока свой набор экземпляров по локалям.
+ * Faker создаётся лениво при первом обращении к локали в потоке (парсинг YAML локали — самая дорогая часть),
+ * редко используемые локали вытесняются по LRU, если их больше {@link #MAX_LOCALES_PER_THREAD}.
+ * <p>
+ * Все Faker-ы потока читают случайность через один {@link RandomSource.RandomView}, который перед выдачей
+ * привязывается к {@link RandomSource} текущей записи — поэтому пул не ломает воспроизводимость по сиду.
+ * Потоки параллельной генерации долгоживущие (см. {@code RecordGenerator}), так что пул переживает запуски.
+ */
+final class FakerPool {
+
+    /** Можно переопределить системным свойством {@code testdata.faker.maxLocalesPerThread}. */
+    static final int MAX_LOCALES_PER_THREAD = Integer.getInteger("testdata.faker.maxLocalesPerThread", 8);
+
+    private static final ThreadLocal<PerThread> POOL = ThreadLocal.withInitial(PerThread::new);
+
+    private FakerPool() {
+    }
+
+    /** Faker для локали в текущем потоке, читающий случайность из {@code random}. */
+    static Faker faker(Locale locale, RandomSource random) {
+        PerThread state = POOL.get();
+        state.random.bind(random);
+        return state.fakers.computeIfAbsent(locale, l -> create(l, state.random));
+    }
+
+    private static Faker create(Locale locale, Random random) {
+        FakerCreationEvent event = new FakerCreationEvent();
+        event.begin();
+        Faker faker = new DictionaryFaker(locale, random);
+        if (event.shouldCommit()) {
+            event.locale = String.valueOf(locale);
+            event.commit();
+        }
+        return faker;
+    }
+
+    private static final class PerThread {
+        final RandomSource.RandomView random = new RandomSource.RandomView(null);
+        final Map<Locale, Faker> fakers = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Locale, Faker> eldest) {
+                return size() > MAX_LOCALES_PER_THREAD;
+            }
+        };
+    }
+}
@@ -0,0 +1,23 @@
+package org.example.generator;
+
+/**
+ * Запись значения в поле DTO. Реализации создаются {@link Accessors} один раз на поле.
+ * Примитивные методы позволяют передать int/long/double без упаковки,
+ * если поле объявлено примитивом; иначе они упаковывают значение и делегируют в {@link #set}.
+ */
+interface FieldWriter {
+
+    void set(Object target, Object value) throws Throwable;
+
+    default void setInt(Object target, int value) throws Throwable {
+        set(target, value);
+    }
+
+    default void setLong(Object target, long value) throws Throwable {
+        set(target, value);
+    }
+
+    default void setDouble(Object target, double value) throws Throwable {
+        set(target, value);
+    }
+}
@@ -0,0 +1,97 @@
+package org.example.generator;
+
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Режим flyweight одного запуска генерации ({@code withFlyweight}).
+ * <ul>
+ *   <li>Строки словарных генераторов ({@link org.example.generator.dataGenerator.repository.FieldGenerator#isDictionary()})
+ *   канонизируются в ограниченном пуле: равные значения — один экземпляр. Когда пул заполнен, новые строки
+ *   проходят как есть, вытеснения нет.</li>
+ *   <li>Вложенные DTO выбранных классов без правил в поддереве берутся из небольшого пула заранее
+ *   сгенерированных экземпляров, общих для всех записей.</li>
+ * </ul>
+ * Сэкономленные байты оцениваются и попадают в {@link GenerationStats#getFlyweight()}, если включён {@code withStats()}.
+ */
+final class Flyweight {
+
+    static final int STRING_POOL_SIZE = 1 << 16;
+    static final int SHARED_POOL_SIZE = 64;
+
+    private final Set<Class<?>> sharedTypes;
+    private final StatsCollector stats;
+    private final ConcurrentHashMap<String, String> strings = new ConcurrentHashMap<>();
+    private final AtomicInteger stringCount = new AtomicInteger();
+    private final ConcurrentHashMap<SharedKey, SharedPool> shared = new ConcurrentHashMap<>();
+
+    Flyweight(Set<Class<?>> sharedTypes, StatsCollector stats) {
+        this.sharedTypes = Set.copyOf(sharedTypes);
+        this.stats = stats;
+    }
+
+    String canonical(String value) {
+        String canonical = strings.get(value);
+        if (canonical == null) {
+            if (stringCount.get() >= STRING_POOL_SIZE) return value;
+            canonical = strings.putIfAbsent(value, value);
+            if (canonical == null) {
+                stringCount.incrementAndGet();
+                return value;
+            }
+        }
+        if (canonical != value && stats != null) stats.recordInterned(stringBytes(value));
+        return canonical;
+    }
+
+    boolean isShared(Class<?> type) {
+        return sharedTypes.contains(type);
+    }
+
+    /**
+     * Экземпляр из пула {@code (type, locale, фильтры)}; пул заполняется {@code fill} при первом обращении.
+     * Не {@code computeIfAbsent}: заполнение рекурсивно обращается к пулам вложенных DTO. Гонка лишь
+     * заполняет пул дважды одинаковыми по сиду экземплярами.
+     */
+    Object shared(Class<?> type, Locale locale, boolean onlyRequired, Set<String> requiredTags, int slot,
+                  Supplier<SharedPool> fill) {
+        SharedKey key = new SharedKey(type, locale, onlyRequired, requiredTags);
+        SharedPool pool = shared.get(key);
+        if (pool == null) {
+            SharedPool filled = fill.get();
+            pool = shared.putIfAbsent(key, filled);
+            if (pool == null) pool = filled;
+        }
+        if (stats != null) stats.recordShared(pool.bytesPerInstance);
+        return pool.instances[slot];
+    }
+
+    /** Оценка размера строки Java 9+: заголовок String и массив byte[] (LATIN1 или UTF16), с выравниванием до 8. */
+    static long stringBytes(String value) {
+        int coder = 1;
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) > 0xFF) {
+                coder = 2;
+                break;
+            }
+        }
+        return 24 + ((16L + (long) value.length() * coder + 7) & ~7L);
+    }
+
+    static final class SharedPool {
+        final Object[] instances;
+        /** Байты, аллоцированные на генерацию одного экземпляра: столько экономит каждое повторное использование. */
+        final long bytesPerInstance;
+
+        SharedPool(Object[] instances, long bytesPerInstance) {
+            this.instances = instances;
+            this.bytesPerInstance = bytesPerInstance;
+        }
+    }
+
+    private record SharedKey(Class<?> type, Locale locale, boolean onlyRequired, Set<String> requiredTags) {
+    }
+}
@@ -0,0 +1,32 @@
+package org.example.generator;
+
+import com.github.javafaker.Faker;
+
+import java.util.Locale;
+
+/**
+ * Изменяемое состояние одного потока генерации: источник случайности, общий для Faker-ов и генераторов.
+ * Перед каждой записью источник пересевается сидом записи, поэтому результат
+ * не зависит от того, какой поток и в каком порядке сгенерировал запись.
+ * Сами Faker-ы берутся из {@link FakerPool} и переживают контекст.
+ * Экземпляр не потокобезопасен — у каждого рабочего потока свой.
+ */
+final class GenerationContext {
+    private final RandomSource random;
+
+    GenerationContext(RandomSource random) {
+        this.random = random;
+    }
+
+    void startRecord(long seed) {
+        random.reseed(seed);
+    }
+
+    RandomSource random() {
+        return random;
+    }
+
+    Faker faker(Locale locale) {
+        return FakerPool.faker(locale, random);
+    }
+}
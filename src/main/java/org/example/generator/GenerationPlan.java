@@ -0,0 +1,149 @@
+package org.example.generator;
+
+import org.example.config.InvalidDataConfig;
+import org.example.config.TestListConfig;
+import org.example.generator.dataGenerator.repository.GeneratorRegistry;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Скомпилированный план генерации DTO-класса.
+ * Вся рефлексия (поля, аннотации, тип элементов списка, аксессоры) выполняется один раз на класс,
+ * дальше план только исполняется для каждой записи.
+ * Если для класса сгенерирован {@link DtoPopulator}, экземпляр и поля заполняются через него.
+ */
+final class GenerationPlan {
+
+    private static final ClassValue<GenerationPlan> PLANS = new ClassValue<>() {
+        @Override
+        protected GenerationPlan computeValue(Class<?> type) {
+            return new GenerationPlan(type);
+        }
+    };
+
+    /** Вид шага: список, вложенный DTO или обычное значение. */
+    enum Kind { LIST, DTO, VALUE }
+
+    private static final boolean POPULATORS_ENABLED =
+            Boolean.parseBoolean(System.getProperty("testdata.populators", "true"));
+
+    private final Supplier<Object> factory;
+    private final List<FieldStep> steps;
+
+    private GenerationPlan(Class<?> clazz) {
+        DtoPopulator<Object> populator = populator(clazz);
+        this.factory = populator != null ? populator::newInstance : Accessors.constructor(clazz);
+        List<String> populated = populator != null ? populator.fieldNames() : List.of();
+        List<FieldStep> compiled = new ArrayList<>();
+        for (Field field : clazz.getDeclaredFields()) {
+            // статические поля (serialVersionUID, константы) не относятся к записи и не генерируются
+            if (Modifier.isStatic(field.getModifiers())) continue;
+            field.setAccessible(true);
+            int index = populated.indexOf(field.getName());
+            FieldWriter writer = index >= 0 ? populatorWriter(populator, index) : Accessors.writer(field);
+            compiled.add(new FieldStep(field, writer));
+        }
+        this.steps = Collections.unmodifiableList(compiled);
+    }
+
+    /**
+     * Сгенерированный при компиляции {@code <Dto>Populator} или {@code null}, если его нет
+     * или популяторы выключены свойством {@code -Dtestdata.populators=false}.
+     */
+    @SuppressWarnings("unchecked")
+    private static DtoPopulator<Object> populator(Class<?> clazz) {
+        if (!POPULATORS_ENABLED) return null;
+        try {
+            Class<?> type = Class.forName(clazz.getName() + "Populator", true, clazz.getClassLoader());
+            if (!DtoPopulator.class.isAssignableFrom(type)) return null;
+            return (DtoPopulator<Object>) type.getDeclaredConstructor().newInstance();
+        } catch (ClassNotFoundException e) {
+            return null;
+        } catch (ReflectiveOperationException | LinkageError e) {
+            throw new IllegalStateException("Не удалось создать популятор для " + clazz.getName(), e);
+        }
+    }
+
+    private static FieldWriter populatorWriter(DtoPopulator<Object> populator, int index) {
+        return new FieldWriter() {
+            public void set(Object target, Object value) { populator.set(target, index, value); }
+            public void setInt(Object target, int value) { populator.setInt(target, index, value); }
+            public void setLong(Object target, long value) { populator.setLong(target, index, value); }
+            public void setDouble(Object target, double value) { populator.setDouble(target, index, value); }
+        };
+    }
+
+    static GenerationPlan of(Class<?> clazz) {
+        return PLANS.get(clazz);
+    }
+
+    Object newInstance() {
+        return factory.get();
+    }
+
+    List<FieldStep> steps() {
+        return steps;
+    }
+
+    static boolean isCustomDtoType(Class<?> type) {
+        return type.getPackageName().startsWith("org.example.DTO");
+    }
+
+    /** Шаг плана: поле DTO и все заранее вычисленные метаданные. */
+    static final class FieldStep {
+        final Field field;
+        final FieldWriter writer;
+        final String name;
+        final Class<?> type;
+        final Kind kind;
+        final InvalidDataConfig cfg;
+        final TestListConfig listCfg;
+        final Set<String> tags;
+        final Class<?> elemType;
+        final boolean elemIsDto;
+        final int generatorIndex;
+
+        private FieldStep(Field field, FieldWriter writer) {
+            this.field = field;
+            this.writer = writer;
+            this.name = field.getName();
+            this.type = field.getType();
+            this.cfg = field.getAnnotation(InvalidDataConfig.class);
+            this.listCfg = field.getAnnotation(TestListConfig.class);
+            this.tags = cfg == null ? Set.of() : Set.copyOf(Arrays.asList(cfg.tags()));
+            if (List.class.equals(type)) {
+                this.kind = Kind.LIST;
+                this.elemType = resolveElementType(field);
+                this.elemIsDto = elemType != null && isCustomDtoType(elemType);
+            } else {
+                this.kind = isCustomDtoType(type) ? Kind.DTO : Kind.VALUE;
+                this.elemType = null;
+                this.elemIsDto = false;
+            }
+            this.generatorIndex = kind == Kind.DTO ? -1 : GeneratorRegistry.getInstance().resolve(field);
+        }
+
+        /** Поле пропускается, если у него нет конфигурации или оно не проходит фильтры по required/tags. */
+        boolean isSkipped(boolean onlyRequired, Set<String> requiredTags) {
+            return cfg == null || (onlyRequired && !cfg.required()) ||
+                    (!requiredTags.isEmpty() && Collections.disjoint(tags, requiredTags));
+        }
+
+        private static Class<?> resolveElementType(Field field) {
+            Type generic = field.getGenericType();
+            if (generic instanceof ParameterizedType pt && pt.getActualTypeArguments()[0] instanceof Class<?> c) {
+                return c;
+            }
+            return null;
+        }
+    }
+}
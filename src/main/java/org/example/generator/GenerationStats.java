@@ -0,0 +1,81 @@
+package org.example.generator;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Value;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Снимок метрик генерации, собранных билдером с {@code withStats()}.
+ * Три среза: по классу генератора, по пути поля DTO ({@code addresses[*].city.city}) и по локали.
+ * Время и аллокации по пути включают вложенные DTO и списки; по генераторам и локалям — только вызовы генераторов.
+ * Записи в каждом срезе упорядочены по убыванию времени.
+ * Отдельно — экономия памяти режима {@code withFlyweight}.
+ */
+@Value
+@AllArgsConstructor(access = AccessLevel.PACKAGE)
+public class GenerationStats {
+
+    public static final GenerationStats EMPTY = new GenerationStats(Map.of(), Map.of(), Map.of(),
+            new FlyweightSavings(0, 0, 0, 0));
+
+    Map<String, Metric> byGenerator;
+    Map<String, Metric> byPath;
+    Map<String, Metric> byLocale;
+    FlyweightSavings flyweight;
+
+    /** Счётчики одного ключа; {@code allocatedBytes} равен 0, если JVM не умеет считать аллокации потока. */
+    @Value
+    public static class Metric {
+        long calls;
+        long nanos;
+        long allocatedBytes;
+    }
+
+    /**
+     * Экономия flyweight: сколько строк заменено каноническими экземплярами и сколько вложенных DTO взято из пула,
+     * и оценка несозданных байтов — размер строки или аллокации на генерацию одного DTO.
+     */
+    @Value
+    public static class FlyweightSavings {
+        long internedStrings;
+        long internedStringBytes;
+        long sharedDtos;
+        long sharedDtoBytes;
+
+        public long totalBytes() {
+            return internedStringBytes + sharedDtoBytes;
+        }
+    }
+
+    static Map<String, Metric> sorted(Map<String, Metric> metrics) {
+        Map<String, Metric> out = new LinkedHashMap<>();
+        metrics.entrySet().stream()
+                .sorted((a, b) -> Long.compare(b.getValue().getNanos(), a.getValue().getNanos()))
+                .forEach(e -> out.put(e.getKey(), e.getValue()));
+        return Collections.unmodifiableMap(out);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        append(sb, "generator", byGenerator);
+        append(sb, "path", byPath);
+        append(sb, "locale", byLocale);
+        if (flyweight.getInternedStrings() > 0 || flyweight.getSharedDtos() > 0) {
+            sb.append(String.format("flyweight: %d strings (%d bytes), %d shared DTOs (%d bytes), saved %d bytes%n",
+                    flyweight.getInternedStrings(), flyweight.getInternedStringBytes(),
+                    flyweight.getSharedDtos(), flyweight.getSharedDtoBytes(), flyweight.totalBytes()));
+        }
+        return sb.toString();
+    }
+
+    private static void append(StringBuilder sb, String title, Map<String, Metric> metrics) {
+        sb.append(String.format("%-40s %12s %14s %16s%n", title, "calls", "ms", "bytes"));
+        metrics.forEach((key, m) -> sb.append(String.format("%-40s %12d %14.3f %16d%n",
+                key, m.getCalls(), m.getNanos() / 1e6, m.getAllocatedBytes())));
+    }
+}
@@ -0,0 +1,35 @@
+package org.example.generator;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Скомпилированный билдер ({@code Builder.template()}): правила, генераторы и базовый сид зафиксированы,
+ * поэтому каждый вызов только генерирует запись. Неизменяем и потокобезопасен: у каждого вызова свой контекст
+ * случайности, а запись с индексом {@code i} совпадает с {@code i}-й записью {@code buildList} при том же сиде.
+ * Изменения билдера после {@code template()} на шаблон не влияют.
+ */
+public final class GenerationTemplate<T> {
+
+    private final RecordGenerator<T> generator;
+    private final AtomicLong next = new AtomicLong();
+
+    GenerationTemplate(RecordGenerator<T> generator) {
+        this.generator = generator;
+    }
+
+    /** Базовый сид: заданный в билдере или выбранный случайно при компиляции. */
+    public long seed() {
+        return generator.baseSeed();
+    }
+
+    /** Запись с индексом {@code index}; {@code get(0)} совпадает с {@code build()} при том же сиде. */
+    public T get(long index) {
+        if (index < 0) throw new IllegalArgumentException("index должен быть >= 0: " + index);
+        return generator.generate(index);
+    }
+
+    /** Следующая запись по общему счётчику шаблона: разные вызовы, в том числе из разных потоков, получают разные индексы. */
+    public T next() {
+        return generator.generate(next.getAndIncrement());
+    }
+}
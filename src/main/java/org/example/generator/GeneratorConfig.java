@@ -1,9 +1,11 @@
 package org.example.generator;
 
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
 
 /** Централизованные флаги для генераторов. */
 @Getter
+@EqualsAndHashCode
 public class GeneratorConfig {
     private boolean useRussianPassport;
     private boolean useInnForUl;
@@ -11,4 +13,11 @@ public class GeneratorConfig {
     public GeneratorConfig setUseRussianPassport(boolean f) { this.useRussianPassport = f; return this; }
 
     public GeneratorConfig setUseInnForUl(boolean f) { this.useInnForUl = f; return this; }
+
+    /** Снимок флагов, безопасный для использования в качестве ключа кэша. */
+    public GeneratorConfig copy() {
+        return new GeneratorConfig()
+                .setUseRussianPassport(useRussianPassport)
+                .setUseInnForUl(useInnForUl);
+    }
 }
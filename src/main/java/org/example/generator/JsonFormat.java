@@ -0,0 +1,9 @@
+package org.example.generator;
+
+/** Формат потоковой записи JSON в {@link CoreDataGenerator#writeJson}. */
+public enum JsonFormat {
+    /** Один компактный JSON-массив: {@code [{...},{...}]}. */
+    ARRAY,
+    /** NDJSON: по одному компактному объекту на строку. */
+    NDJSON
+}
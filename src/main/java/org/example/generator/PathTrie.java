@@ -0,0 +1,230 @@
+package org.example.generator;
+
+import org.example.config.InvalidFieldConfig;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Префиксное дерево правил билдера (invalidate, withFixedListSize, setValue, setFieldLocale, unique).
+ * Строится один раз в build()/buildList(); генерация спускается по нему параллельно графу объекта,
+ * поэтому поиск правила для поля не зависит от количества правил и не создаёт списков путей.
+ * <p>
+ * Курсор — массив узлов, совпавших с текущим путём (точное имя, индекс списка или {@code *}).
+ * Если совпало несколько узлов, побеждает правило, добавленное в билдер раньше, как и при линейном поиске.
+ */
+final class PathTrie {
+
+    static final Node[] NONE = new Node[0];
+
+    private final Node root = new Node();
+    private final List<UniqueSet> uniqueSets = new ArrayList<>();
+    private int ordinal;
+
+    static PathTrie compile(List<Map.Entry<CoreDataGenerator.PathPattern, InvalidFieldConfig>> invalidPatterns,
+                            List<Map.Entry<CoreDataGenerator.PathPattern, Integer>> fixedSizes,
+                            Map<CoreDataGenerator.PathPattern, Object> manualValues,
+                            Map<CoreDataGenerator.PathPattern, Locale> fieldLocales,
+                            List<CoreDataGenerator.PathPattern> uniquePaths) {
+        PathTrie trie = new PathTrie();
+        for (Map.Entry<CoreDataGenerator.PathPattern, InvalidFieldConfig> e : invalidPatterns) {
+            Node node = trie.insert(e.getKey().segments());
+            if (node.invalidOrder < 0) {
+                node.invalid = e.getValue();
+                node.invalidOrder = trie.ordinal++;
+            }
+        }
+        for (Map.Entry<CoreDataGenerator.PathPattern, Integer> e : fixedSizes) {
+            Node node = trie.insert(e.getKey().segments());
+            if (node.fixedSizeOrder < 0) {
+                node.fixedSize = e.getValue();
+                node.fixedSizeOrder = trie.ordinal++;
+            }
+        }
+        for (Map.Entry<CoreDataGenerator.PathPattern, Object> e : manualValues.entrySet()) {
+            Node node = trie.insert(e.getKey().segments());
+            if (node.manualOrder < 0) {
+                node.manual = e.getValue();
+                node.manualOrder = trie.ordinal++;
+            }
+        }
+        for (Map.Entry<CoreDataGenerator.PathPattern, Locale> e : fieldLocales.entrySet()) {
+            Node node = trie.insert(e.getKey().segments());
+            if (node.localeOrder < 0) {
+                node.locale = e.getValue();
+                node.localeOrder = trie.ordinal++;
+            }
+        }
+        for (CoreDataGenerator.PathPattern pattern : uniquePaths) {
+            Node node = trie.insert(pattern.segments());
+            if (node.uniqueOrder < 0) {
+                // множество создаётся на каждую компиляцию: повторный buildList не конфликтует с прошлым
+                node.unique = new UniqueSet(String.join(".", pattern.segments()));
+                node.uniqueOrder = trie.ordinal++;
+                trie.uniqueSets.add(node.unique);
+            }
+        }
+        return trie;
+    }
+
+    /** Курсор корня: пустой, если правил нет вовсе. */
+    Node[] root() {
+        return root.isLeaf() ? NONE : root.self;
+    }
+
+    /** Множества всех путей из {@code unique(path)} в порядке добавления. */
+    List<UniqueSet> uniqueSets() {
+        return uniqueSets;
+    }
+
+    private Node insert(List<String> segments) {
+        Node node = root;
+        for (String segment : segments) {
+            if ("*".equals(segment)) {
+                if (node.any == null) node.any = new Node();
+                node = node.any;
+                continue;
+            }
+            int index = parseIndex(segment);
+            if (index >= 0) {
+                node = node.indexes.computeIfAbsent(index, k -> new Node());
+            } else {
+                node = node.names.computeIfAbsent(segment, k -> new Node());
+            }
+        }
+        return node;
+    }
+
+    private static int parseIndex(String segment) {
+        int len = segment.length();
+        if (len < 3 || segment.charAt(0) != '[' || segment.charAt(len - 1) != ']') return -1;
+        if (len > 3 && segment.charAt(1) == '0') return -1;
+        int value = 0;
+        for (int i = 1; i < len - 1; i++) {
+            char c = segment.charAt(i);
+            if (c < '0' || c > '9' || value > (Integer.MAX_VALUE - 9) / 10) return -1;
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    /** Спуск по имени поля. */
+    static Node[] descend(Node[] cursor, String name) {
+        if (cursor.length == 0) return NONE;
+        Node first = null;
+        int count = 0;
+        for (Node node : cursor) {
+            Node named = node.names.get(name);
+            if (named != null) { if (count++ == 0) first = named; }
+            if (node.any != null) { if (count++ == 0) first = node.any; }
+        }
+        if (count <= 1) return count == 0 ? NONE : first.self;
+        Node[] next = new Node[count];
+        int i = 0;
+        for (Node node : cursor) {
+            Node named = node.names.get(name);
+            if (named != null) next[i++] = named;
+            if (node.any != null) next[i++] = node.any;
+        }
+        return next;
+    }
+
+    /** Спуск по индексу элемента списка ({@code [i]}). */
+    static Node[] descendIndex(Node[] cursor, int index) {
+        if (cursor.length == 0) return NONE;
+        Node first = null;
+        int count = 0;
+        for (Node node : cursor) {
+            Node indexed = node.indexes.isEmpty() ? null : node.indexes.get(index);
+            if (indexed != null) { if (count++ == 0) first = indexed; }
+            if (node.any != null) { if (count++ == 0) first = node.any; }
+        }
+        if (count <= 1) return count == 0 ? NONE : first.self;
+        Node[] next = new Node[count];
+        int i = 0;
+        for (Node node : cursor) {
+            Node indexed = node.indexes.isEmpty() ? null : node.indexes.get(index);
+            if (indexed != null) next[i++] = indexed;
+            if (node.any != null) next[i++] = node.any;
+        }
+        return next;
+    }
+
+    /** Есть ли под курсором правила для элементов списка ({@code [i]} или {@code *}). */
+    static boolean hasIndexRules(Node[] cursor) {
+        for (Node node : cursor) {
+            if (!node.indexes.isEmpty() || node.any != null) return true;
+        }
+        return false;
+    }
+
+    /** Узел с ручным значением или {@code null}; само значение может быть {@code null}. */
+    static Node manual(Node[] cursor) {
+        Node best = null;
+        for (Node node : cursor) {
+            if (node.manualOrder >= 0 && (best == null || node.manualOrder < best.manualOrder)) best = node;
+        }
+        return best;
+    }
+
+    static InvalidFieldConfig invalid(Node[] cursor) {
+        Node best = null;
+        for (Node node : cursor) {
+            if (node.invalidOrder >= 0 && (best == null || node.invalidOrder < best.invalidOrder)) best = node;
+        }
+        return best == null ? null : best.invalid;
+    }
+
+    static UniqueSet unique(Node[] cursor) {
+        Node best = null;
+        for (Node node : cursor) {
+            if (node.uniqueOrder >= 0 && (best == null || node.uniqueOrder < best.uniqueOrder)) best = node;
+        }
+        return best == null ? null : best.unique;
+    }
+
+    static int fixedSize(Node[] cursor) {
+        Node best = null;
+        for (Node node : cursor) {
+            if (node.fixedSizeOrder >= 0 && (best == null || node.fixedSizeOrder < best.fixedSizeOrder)) best = node;
+        }
+        return best == null ? -1 : best.fixedSize;
+    }
+
+    static Locale locale(Node[] cursor, Locale fallback) {
+        Node best = null;
+        for (Node node : cursor) {
+            if (node.localeOrder >= 0 && (best == null || node.localeOrder < best.localeOrder)) best = node;
+        }
+        return best == null ? fallback : best.locale;
+    }
+
+    static final class Node {
+        private final Node[] self = {this};
+        private final Map<String, Node> names = new HashMap<>();
+        private final Map<Integer, Node> indexes = new HashMap<>();
+        private Node any;
+
+        private Object manual;
+        private int manualOrder = -1;
+        private InvalidFieldConfig invalid;
+        private int invalidOrder = -1;
+        private int fixedSize;
+        private int fixedSizeOrder = -1;
+        private Locale locale;
+        private int localeOrder = -1;
+        private UniqueSet unique;
+        private int uniqueOrder = -1;
+
+        Object manualValue() {
+            return manual;
+        }
+
+        private boolean isLeaf() {
+            return names.isEmpty() && indexes.isEmpty() && any == null;
+        }
+    }
+}
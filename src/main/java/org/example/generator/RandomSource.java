@@ -0,0 +1,81 @@
+package org.example.generator;
+
+import java.util.Random;
+import java.util.function.LongFunction;
+import java.util.random.RandomGenerator;
+
+/**
+ * Источник случайности одного рабочего потока генерации.
+ * Пересевается сидом каждой записи, поэтому и Faker (через {@link RandomView}), и генераторы полей
+ * получают воспроизводимую последовательность без разделяемого между потоками состояния.
+ * Реализации не обязаны быть потокобезопасными: на каждый поток создаётся свой экземпляр.
+ */
+public interface RandomSource extends RandomGenerator {
+
+    /** Сбрасывает состояние на заданный сид. */
+    void reseed(long seed);
+
+    /** Источник по умолчанию — SplitMix64, тот же алгоритм, что у {@link java.util.SplittableRandom}. */
+    static RandomSource splittable() {
+        return new SplitMixRandomSource();
+    }
+
+    /** Источник поверх любого {@link RandomGenerator}, создаваемого из сида при каждом пересеве. */
+    static RandomSource of(LongFunction<? extends RandomGenerator> factory) {
+        return new DelegatingRandomSource(factory);
+    }
+
+    /**
+     * Адаптер {@link Random} для Faker: переопределяет {@code next(bits)}, так что AtomicLong-сид Random
+     * не используется, а случайность берётся из того же состояния источника, без CAS.
+     * Пул Faker-ов перепривязывает представление к источнику текущей записи.
+     */
+    final class RandomView extends Random {
+        private RandomSource source;
+
+        public RandomView(RandomSource source) {
+            super(0L);
+            this.source = source;
+        }
+
+        void bind(RandomSource source) {
+            this.source = source;
+        }
+
+        @Override
+        protected int next(int bits) {
+            return (int) (source.nextLong() >>> (64 - bits));
+        }
+
+        @Override
+        public synchronized void setSeed(long seed) {
+            // вызывается из конструктора Random до инициализации source
+            if (source != null) source.reseed(seed);
+        }
+
+        @Override
+        public int nextInt() {
+            return source.nextInt();
+        }
+
+        @Override
+        public int nextInt(int bound) {
+            return source.nextInt(bound);
+        }
+
+        @Override
+        public long nextLong() {
+            return source.nextLong();
+        }
+
+        @Override
+        public double nextDouble() {
+            return source.nextDouble();
+        }
+
+        @Override
+        public boolean nextBoolean() {
+            return source.nextBoolean();
+        }
+    }
+}
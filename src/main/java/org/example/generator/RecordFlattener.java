@@ -0,0 +1,191 @@
+package org.example.generator;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Разворачивает граф DTO в строки {@link SinkTable}. Схема и геттеры строятся один раз на корневой класс;
+ * счётчики {@code id} — на экземпляр, поэтому один экземпляр обслуживает один запуск в одном потоке.
+ * Если {@code inlineNested}, вложенный DTO (не список) становится колонками родителя с префиксом пути
+ * ({@code passport_series}), а отдельные таблицы остаются только у списков.
+ */
+final class RecordFlattener {
+
+    private static final MethodType GETTER = MethodType.methodType(Object.class, Object.class);
+
+    private final List<SinkTable> tables = new ArrayList<>();
+    private final Node root;
+    private final long[] nextIds;
+
+    private final boolean inlineNested;
+
+    RecordFlattener(Class<?> rootType, boolean inlineNested) {
+        this.inlineNested = inlineNested;
+        this.root = node(rootType, snakeCase(rootType.getSimpleName()), null, false, false);
+        this.nextIds = new long[tables.size()];
+    }
+
+    List<SinkTable> tables() {
+        return Collections.unmodifiableList(tables);
+    }
+
+    void flatten(Object record, RecordSink sink) throws Throwable {
+        emit(root, record, 0, -1, sink);
+    }
+
+    private void emit(Node node, Object value, long parentId, int index, RecordSink sink) throws Throwable {
+        long id = ++nextIds[node.table.getIndex()];
+        Object[] row = new Object[node.table.getColumns().size()];
+        int c = 0;
+        row[c++] = id;
+        if (node.table.getParent() != null) row[c++] = parentId;
+        if (node.element) row[c++] = index;
+        if (node.scalar) {
+            row[c] = value;
+        } else {
+            for (MethodHandle[] getter : node.columns) {
+                row[c++] = get(getter, value);
+            }
+        }
+        sink.accept(node.table, row);
+        for (Child child : node.children) {
+            Object nested = get(child.getter, value);
+            if (nested == null) continue;
+            if (child.list) {
+                List<?> list = (List<?>) nested;
+                for (int i = 0; i < list.size(); i++) {
+                    Object elem = list.get(i);
+                    if (elem != null) emit(child.node, elem, id, i, sink);
+                }
+            } else {
+                emit(child.node, nested, id, -1, sink);
+            }
+        }
+    }
+
+    /** Значение по цепочке геттеров; {@code null} в середине цепочки (вложенный DTO не сгенерирован) даёт {@code null}. */
+    private static Object get(MethodHandle[] chain, Object value) throws Throwable {
+        for (MethodHandle getter : chain) {
+            if (value == null) return null;
+            value = getter.invokeExact(value);
+        }
+        return value;
+    }
+
+    private Node node(Class<?> type, String name, SinkTable parent, boolean element, boolean scalar) {
+        List<String> columns = new ArrayList<>(List.of(SinkTable.ID));
+        List<Class<?>> types = new ArrayList<>(List.of(long.class));
+        if (parent != null) {
+            columns.add(SinkTable.PARENT_ID);
+            types.add(long.class);
+        }
+        if (element) {
+            columns.add(SinkTable.INDEX);
+            types.add(int.class);
+        }
+        List<MethodHandle[]> getters = new ArrayList<>();
+        List<Nested> nested = new ArrayList<>();
+        if (scalar) {
+            columns.add(SinkTable.ELEMENT);
+            types.add(type);
+        } else {
+            collect(type, "", new MethodHandle[0], columns, types, getters, nested);
+        }
+        SinkTable table = new SinkTable(tables.size(), name, parent, List.copyOf(columns), List.copyOf(types));
+        tables.add(table);
+        Node node = new Node(table, element, scalar, getters);
+        // дети добавляются после родителя, поэтому таблицы упорядочены от корня к листьям
+        for (Nested n : nested) {
+            String childName = name + '_' + n.prefix + snakeCase(n.field.getName());
+            if (List.class.equals(n.field.getType())) {
+                Class<?> elemType = elementType(n.field);
+                boolean dto = GenerationPlan.isCustomDtoType(elemType);
+                node.children.add(new Child(n.chain, true, node(elemType, childName, table, true, !dto)));
+            } else {
+                node.children.add(new Child(n.chain, false, node(n.field.getType(), childName, table, false, false)));
+            }
+        }
+        return node;
+    }
+
+    /** Скалярные поля {@code type} — в колонки; списки и (без inlineNested) вложенные DTO — в дочерние таблицы. */
+    private void collect(Class<?> type, String prefix, MethodHandle[] chain, List<String> columns, List<Class<?>> types,
+                         List<MethodHandle[]> getters, List<Nested> nested) {
+        for (Field field : type.getDeclaredFields()) {
+            if (Modifier.isStatic(field.getModifiers())) continue;
+            MethodHandle[] fieldChain = Arrays.copyOf(chain, chain.length + 1);
+            fieldChain[chain.length] = getter(field);
+            boolean dto = GenerationPlan.isCustomDtoType(field.getType());
+            if (dto && inlineNested) {
+                collect(field.getType(), prefix + snakeCase(field.getName()) + '_', fieldChain,
+                        columns, types, getters, nested);
+            } else if (dto || List.class.equals(field.getType())) {
+                nested.add(new Nested(field, prefix, fieldChain));
+            } else {
+                columns.add(prefix + snakeCase(field.getName()));
+                types.add(field.getType());
+                getters.add(fieldChain);
+            }
+        }
+    }
+
+    private static Class<?> elementType(Field field) {
+        if (field.getGenericType() instanceof ParameterizedType pt && pt.getActualTypeArguments()[0] instanceof Class<?> c) {
+            return c;
+        }
+        return Object.class;
+    }
+
+    private static MethodHandle getter(Field field) {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(field.getDeclaringClass(), MethodHandles.lookup());
+            return lookup.unreflectGetter(field).asType(GETTER);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Нет доступа к полю " + field, e);
+        }
+    }
+
+    /** {@code firstName} → {@code first_name}, {@code INN} → {@code inn}, {@code addressesNoneList} → {@code addresses_none_list}. */
+    static String snakeCase(String name) {
+        StringBuilder sb = new StringBuilder(name.length() + 4);
+        for (int i = 0; i < name.length(); i++) {
+            char ch = name.charAt(i);
+            if (Character.isUpperCase(ch)) {
+                if (i > 0 && !Character.isUpperCase(name.charAt(i - 1))) sb.append('_');
+                sb.append(Character.toLowerCase(ch));
+            } else {
+                sb.append(ch);
+            }
+        }
+        return sb.toString();
+    }
+
+    private static final class Node {
+        final SinkTable table;
+        final boolean element;
+        final boolean scalar;
+        final MethodHandle[][] columns;
+        final List<Child> children = new ArrayList<>();
+
+        Node(SinkTable table, boolean element, boolean scalar, List<MethodHandle[]> columns) {
+            this.table = table;
+            this.element = element;
+            this.scalar = scalar;
+            this.columns = columns.toArray(MethodHandle[][]::new);
+        }
+    }
+
+    private record Child(MethodHandle[] getter, boolean list, Node node) {
+    }
+
+    private record Nested(Field field, String prefix, MethodHandle[] chain) {
+    }
+}
@@ -0,0 +1,596 @@
+package org.example.generator;
+
+import com.github.javafaker.Faker;
+import org.example.config.InvalidDataConfig;
+import org.example.config.InvalidDataType;
+import org.example.config.InvalidFieldConfig;
+import org.example.generator.dataGenerator.repository.FieldGenerator;
+import org.example.generator.dataGenerator.repository.GeneratorRegistry;
+import org.example.generator.jfr.ListFieldEvent;
+import org.example.generator.jfr.ListGenerationEvent;
+import org.example.generator.jfr.RecordGenerationEvent;
+import org.example.generator.jfr.ValueGenerationEvent;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.Spliterator;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Скомпилированный билдер: правила, генераторы и базовый сид зафиксированы, билдер можно менять дальше.
+ * Запись с индексом {@code i} всегда генерируется из сида {@link #recordSeed(long, long)},
+ * поэтому последовательная и параллельная генерация дают одинаковый результат при любом числе потоков.
+ */
+final class RecordGenerator<T> {
+
+    /** Шаг SplitMix64: соседние индексы дают некоррелированные сиды. */
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+    /** Минимальный размер куска индексов на одну задачу ForkJoin. */
+    private static final int MIN_CHUNK = 64;
+    /** Записей в одном блоке конвейера {@link #generateInto}. */
+    private static final int SINK_BLOCK = 1024;
+    /** Сколько готовых блоков может ждать приёмника; дальше генерация блокируется. */
+    private static final int SINK_QUEUE_BLOCKS = 4;
+    private static final Object END_OF_RECORDS = new Object();
+    /** Предел попыток получить уникальное значение для {@code unique(path)}. */
+    static final int UNIQUE_ATTEMPTS = 64;
+    /** Сколько простаивает рабочий поток, прежде чем завершиться вместе со своими Faker-ами. */
+    private static final long WORKER_KEEP_ALIVE_MINUTES = 5;
+
+    /**
+     * Общие на JVM пулы по степени параллелизма и потоки-производители конвейера. Потоки живут между запусками,
+     * поэтому Faker-ы из {@link FakerPool} (и разобранный YAML локалей) не создаются заново на каждый buildList.
+     */
+    private static final Map<Integer, ForkJoinPool> WORKERS = new ConcurrentHashMap<>();
+    private static final ExecutorService PRODUCERS = Executors.newCachedThreadPool(r -> {
+        Thread thread = new Thread(r, "testdata-producer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Class<T> clazz;
+    private final boolean onlyRequired;
+    private final Set<String> requiredTags;
+    private final PathTrie rules;
+    private final Locale dtoLocale;
+    private final GeneratorRegistry.Generators generators;
+    private final long baseSeed;
+    private final Supplier<? extends RandomSource> randomSources;
+    /** {@code null}, если статистика не включена: тогда пути не строятся и время не замеряется. */
+    private final StatsCollector stats;
+    /** {@code null}, если режим flyweight не включён. */
+    private final Flyweight flyweight;
+
+    RecordGenerator(Class<T> clazz, boolean onlyRequired, Set<String> requiredTags, PathTrie rules,
+                    Locale dtoLocale, GeneratorRegistry.Generators generators, long baseSeed,
+                    Supplier<? extends RandomSource> randomSources, StatsCollector stats, Flyweight flyweight) {
+        this.clazz = clazz;
+        this.onlyRequired = onlyRequired;
+        this.requiredTags = Set.copyOf(requiredTags);
+        this.rules = rules;
+        this.dtoLocale = dtoLocale;
+        this.generators = generators;
+        this.baseSeed = baseSeed;
+        this.randomSources = randomSources;
+        this.stats = stats;
+        this.flyweight = flyweight;
+    }
+
+    long baseSeed() {
+        return baseSeed;
+    }
+
+    private static ForkJoinPool workers(int parallelism) {
+        return WORKERS.computeIfAbsent(parallelism, p -> new ForkJoinPool(p,
+                ForkJoinPool.defaultForkJoinWorkerThreadFactory, null, false, p, Math.max(p, 256), 1, null,
+                WORKER_KEEP_ALIVE_MINUTES, TimeUnit.MINUTES));
+    }
+
+    private GenerationContext newContext() {
+        return new GenerationContext(randomSources.get());
+    }
+
+    static long recordSeed(long baseSeed, long index) {
+        return new SplittableRandom(baseSeed + index * GOLDEN_GAMMA).nextLong();
+    }
+
+    T generate(long index, GenerationContext ctx) {
+        RecordGenerationEvent event = new RecordGenerationEvent();
+        event.begin();
+        ctx.startRecord(recordSeed(baseSeed, index));
+        T record = generateFilteredData(clazz, onlyRequired, requiredTags, rules.root(), dtoLocale, ctx,
+                stats == null ? null : "");
+        if (event.shouldCommit()) {
+            event.dtoClass = clazz;
+            event.index = index;
+            event.locale = String.valueOf(dtoLocale);
+            event.commit();
+        }
+        return record;
+    }
+
+    /** Одна запись с индексом {@code index} в собственном контексте, поэтому вызывается из любых потоков. */
+    T generate(long index) {
+        return generate(index, newContext());
+    }
+
+    List<T> generateList(int count) {
+        GenerationContext ctx = newContext();
+        List<T> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(generate(i, ctx));
+        }
+        return result;
+    }
+
+    List<T> generateList(int count, int parallelism) {
+        ListGenerationEvent event = new ListGenerationEvent();
+        event.begin();
+        List<T> result;
+        if (parallelism <= 1 || count <= MIN_CHUNK) {
+            result = generateList(count);
+        } else {
+            result = generateRange(0, count, workers(parallelism));
+        }
+        if (event.shouldCommit()) {
+            event.dtoClass = clazz;
+            event.count = count;
+            event.parallelism = parallelism;
+            event.commit();
+        }
+        return result;
+    }
+
+    /** Записи с индексами [from, from + count) в пуле {@code pool}. */
+    @SuppressWarnings("unchecked")
+    private List<T> generateRange(long from, int count, ForkJoinPool pool) {
+        Object[] out = new Object[count];
+        int chunk = Math.max(MIN_CHUNK, count / (pool.getParallelism() * 4));
+        pool.invoke(new RangeTask(out, from, 0, count, chunk));
+        return (List<T>) Arrays.asList(out);
+    }
+
+    /**
+     * Конвейер генерация → приёмник: поток-производитель генерирует блоки по {@link #SINK_BLOCK} записей
+     * (параллельно, если {@code parallelism > 1}) в очередь из {@link #SINK_QUEUE_BLOCKS} блоков,
+     * а текущий поток разворачивает записи в строки и отдаёт их {@code sink}. Порядок записей сохраняется.
+     */
+    long generateInto(long count, RecordSink sink, int parallelism) {
+        RecordFlattener flattener = new RecordFlattener(clazz, sink.inlineNested());
+        BlockingQueue<Object> queue = new ArrayBlockingQueue<>(SINK_QUEUE_BLOCKS);
+        Future<?> producer = null;
+        long written = 0;
+        try {
+            sink.open(flattener.tables());
+            producer = PRODUCERS.submit(() -> produce(count, parallelism, queue));
+            while (true) {
+                Object block = queue.take();
+                if (block == END_OF_RECORDS) break;
+                if (block instanceof Throwable failure) {
+                    throw new IllegalStateException("Ошибка генерации записей для " + clazz.getName(), failure);
+                }
+                for (Object record : (List<?>) block) {
+                    flattener.flatten(record, sink);
+                    written++;
+                }
+            }
+            sink.finish();
+            return written;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Запись в приёмник прервана", e);
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException("Ошибка записи в приёмник после " + written + " записей", e);
+        } finally {
+            if (producer != null) producer.cancel(true);
+        }
+    }
+
+    private void produce(long count, int parallelism, BlockingQueue<Object> queue) {
+        ForkJoinPool pool = parallelism > 1 ? workers(parallelism) : null;
+        try {
+            GenerationContext ctx = newContext();
+            for (long from = 0; from < count; from += SINK_BLOCK) {
+                int size = (int) Math.min(SINK_BLOCK, count - from);
+                List<T> block;
+                if (pool != null) {
+                    block = generateRange(from, size, pool);
+                } else {
+                    block = new ArrayList<>(size);
+                    for (int i = 0; i < size; i++) block.add(generate(from + i, ctx));
+                }
+                queue.put(block);
+            }
+            queue.put(END_OF_RECORDS);
+        } catch (InterruptedException e) {
+            // приёмник завершился или упал — блоки больше не нужны
+        } catch (Throwable e) {
+            queue.clear();
+            queue.offer(e);
+        }
+    }
+
+    /** Пачка из {@code count} записей в колоночном виде; объекты DTO не создаются. */
+    ColumnBatch<T> generateColumns(int count) {
+        return new ColumnarGenerator(rules, generators, randomSources.get(), baseSeed)
+                .generate(clazz, count, onlyRequired, requiredTags, dtoLocale);
+    }
+
+    /** Ленивый поток записей с индексами [0, count); {@code count < 0} — бесконечный поток. */
+    Stream<T> stream(long count) {
+        return StreamSupport.stream(new RecordSpliterator(0, count < 0 ? Long.MAX_VALUE : count, count >= 0), false);
+    }
+
+    /** Ленивый итератор записей с индексами [0, count); {@code count < 0} — бесконечный. */
+    Iterator<T> iterator(long count) {
+        long end = count < 0 ? Long.MAX_VALUE : count;
+        GenerationContext ctx = newContext();
+        return new Iterator<>() {
+            private long next;
+
+            @Override
+            public boolean hasNext() {
+                return next < end;
+            }
+
+            @Override
+            public T next() {
+                if (next >= end) throw new NoSuchElementException();
+                return generate(next++, ctx);
+            }
+        };
+    }
+
+    /**
+     * Сплитератор по диапазону индексов. При делении каждая половина получает свой контекст,
+     * поэтому {@code stream(n).parallel()} безопасен и даёт те же записи, что и последовательный.
+     */
+    private final class RecordSpliterator implements Spliterator<T> {
+        private long from;
+        private final long to;
+        private final boolean sized;
+        private GenerationContext ctx;
+
+        RecordSpliterator(long from, long to, boolean sized) {
+            this.from = from;
+            this.to = to;
+            this.sized = sized;
+        }
+
+        private GenerationContext ctx() {
+            if (ctx == null) ctx = newContext();
+            return ctx;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (from >= to) return false;
+            action.accept(generate(from++, ctx()));
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            GenerationContext c = ctx();
+            while (from < to) {
+                action.accept(generate(from++, c));
+            }
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            long remaining = to - from;
+            if (remaining < MIN_CHUNK * 2L) return null;
+            long mid = from + remaining / 2;
+            Spliterator<T> prefix = new RecordSpliterator(from, mid, sized);
+            from = mid;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return to - from;
+        }
+
+        @Override
+        public int characteristics() {
+            int base = ORDERED | NONNULL | IMMUTABLE;
+            return sized ? base | SIZED | SUBSIZED : base;
+        }
+    }
+
+    /** Делит диапазон индексов пополам, пока кусок не станет меньше {@code chunk}. */
+    private final class RangeTask extends RecursiveAction {
+        private final Object[] out;
+        /** Индекс записи, соответствующий {@code out[0]}. */
+        private final long base;
+        private final int from;
+        private final int to;
+        private final int chunk;
+
+        RangeTask(Object[] out, long base, int from, int to, int chunk) {
+            this.out = out;
+            this.base = base;
+            this.from = from;
+            this.to = to;
+            this.chunk = chunk;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= chunk) {
+                GenerationContext ctx = newContext();
+                for (int i = from; i < to; i++) {
+                    out[i] = generate(base + i, ctx);
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new RangeTask(out, base, from, mid, chunk), new RangeTask(out, base, mid, to, chunk));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <D> D generateFilteredData(
+            Class<D> clazz, boolean onlyRequired, Set<String> requiredTags,
+            PathTrie.Node[] rules, Locale dtoLocale, GenerationContext ctx, String path
+    ) {
+        try {
+            GenerationPlan plan = GenerationPlan.of(clazz);
+            D instance = (D) plan.newInstance();
+            for (GenerationPlan.FieldStep step : plan.steps()) {
+                Field field = step.field;
+                PathTrie.Node[] fieldRules = PathTrie.descend(rules, step.name);
+
+                // 1. Установка ручного значения
+                PathTrie.Node manual = PathTrie.manual(fieldRules);
+                if (manual != null) {
+                    step.writer.set(instance, manual.manualValue());
+                    continue;
+                }
+
+                InvalidDataConfig cfg = step.cfg;
+                if (step.isSkipped(onlyRequired, requiredTags))
+                    continue;
+
+                // 2. Определяем локаль
+                Locale fieldLocale = PathTrie.locale(fieldRules, dtoLocale);
+                Faker faker = ctx.faker(fieldLocale);
+
+                // 3. Генерация данных
+                InvalidFieldConfig invCfg = PathTrie.invalid(fieldRules);
+                boolean isInvalid = invCfg != null;
+                InvalidDataType invType = isInvalid ? invCfg.getInvalidType() : null;
+
+                String fieldPath = null;
+                long startNanos = 0;
+                long startBytes = 0;
+                if (stats != null) {
+                    fieldPath = path.isEmpty() ? step.name : path + '.' + step.name;
+                    startNanos = System.nanoTime();
+                    startBytes = StatsCollector.allocatedBytes();
+                }
+
+                switch (step.kind) {
+                    case LIST -> {
+                        int size = PathTrie.fixedSize(fieldRules);
+                        Object listObj = generateListField(step, fieldRules, size, dtoLocale, ctx, fieldPath);
+                        step.writer.set(instance, listObj);
+                        if (stats != null) stats.recordPath(fieldPath, startNanos, startBytes);
+                    }
+                    case DTO -> {
+                        Object nested = flyweight != null && fieldRules.length == 0 && flyweight.isShared(step.type)
+                                ? sharedDto(step.type, onlyRequired, requiredTags, fieldLocale, ctx, fieldPath)
+                                : generateFilteredData(step.type, onlyRequired, requiredTags,
+                                fieldRules, fieldLocale, ctx, fieldPath);
+                        step.writer.set(instance, nested);
+                        if (stats != null) stats.recordPath(fieldPath, startNanos, startBytes);
+                    }
+                    case VALUE -> {
+                        FieldGenerator gen = generators.get(step.generatorIndex);
+                        ValueGenerationEvent event = new ValueGenerationEvent();
+                        event.begin();
+                        Object val = isInvalid ? gen.generateInvalid(field, cfg, invType, faker, ctx.random())
+                                : gen.generateValid(field, faker, cfg, ctx.random());
+                        UniqueSet unique = PathTrie.unique(fieldRules);
+                        if (unique != null) {
+                            val = ensureUnique(unique, val, gen, field, cfg, invType, faker, ctx.random());
+                        }
+                        if (flyweight != null && val instanceof String str && gen.isDictionary()) {
+                            val = flyweight.canonical(str);
+                        }
+                        commit(event, gen, field, fieldLocale, isInvalid);
+                        if (stats != null) {
+                            stats.recordValue(fieldPath, gen.getClass(), fieldLocale, startNanos, startBytes);
+                        }
+                        step.writer.set(instance, val);
+                    }
+                }
+            }
+            return instance;
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private List<Object> generateListField(
+            GenerationPlan.FieldStep step,
+            PathTrie.Node[] rules, int fixedSize,
+            Locale dtoLocale, GenerationContext ctx, String path
+    ) {
+        Field field = step.field;
+        InvalidDataConfig cfg = step.cfg;
+        Class<?> elemType = step.elemType;
+        if (elemType == null) {
+            throw new IllegalStateException("Не удалось определить тип элементов списка " + field);
+        }
+        ListFieldEvent listEvent = new ListFieldEvent();
+        listEvent.begin();
+        Faker baseFaker = ctx.faker(dtoLocale);
+        int size = fixedSize >= 0 ? fixedSize :
+                baseFaker.number().numberBetween(step.listCfg.minItems(), step.listCfg.maxItems());
+        List<Object> list = new ArrayList<>(size);
+        String elemPath = path == null ? null : path + "[*]";
+
+        if (!step.elemIsDto && !PathTrie.hasIndexRules(rules)) {
+            // у элементов нет собственных правил — вся колонка генерируется одним пакетным вызовом
+            FieldGenerator gen = generators.get(step.generatorIndex);
+            long startNanos = 0;
+            long startBytes = 0;
+            if (stats != null) {
+                startNanos = System.nanoTime();
+                startBytes = StatsCollector.allocatedBytes();
+            }
+            ValueGenerationEvent event = new ValueGenerationEvent();
+            event.begin();
+            if (flyweight != null && gen.isDictionary()) {
+                gen.generateValidBatch(field, baseFaker, cfg, ctx.random(), size,
+                        v -> list.add(v instanceof String str ? flyweight.canonical(str) : v));
+            } else {
+                gen.generateValidBatch(field, baseFaker, cfg, ctx.random(), size, list::add);
+            }
+            commit(event, gen, field, dtoLocale, false);
+            if (stats != null) {
+                stats.recordValues(elemPath, gen.getClass(), dtoLocale, size, startNanos, startBytes);
+            }
+        } else {
+            generateElements(step, rules, size, dtoLocale, ctx, elemPath, list);
+        }
+        if (listEvent.shouldCommit()) {
+            listEvent.dtoClass = field.getDeclaringClass();
+            listEvent.field = step.name;
+            listEvent.elementType = elemType;
+            listEvent.size = list.size();
+            listEvent.locale = String.valueOf(dtoLocale);
+            listEvent.commit();
+        }
+        return list;
+    }
+
+    /** Поэлементная генерация: у элементов есть правила по индексу или {@code *}, либо это DTO. */
+    private void generateElements(GenerationPlan.FieldStep step, PathTrie.Node[] rules, int size,
+                                  Locale dtoLocale, GenerationContext ctx, String elemPath, List<Object> list) {
+        Field field = step.field;
+        InvalidDataConfig cfg = step.cfg;
+        for (int i = 0; i < size; i++) {
+            PathTrie.Node[] idxRules = PathTrie.descendIndex(rules, i);
+            Object elem;
+            if (step.elemIsDto) {
+                elem = flyweight != null && idxRules.length == 0 && flyweight.isShared(step.elemType)
+                        ? sharedDto(step.elemType, false, Collections.emptySet(), dtoLocale, ctx, elemPath)
+                        : generateFilteredData(step.elemType, false, Collections.emptySet(),
+                        idxRules, dtoLocale, ctx, elemPath);
+            } else {
+                InvalidFieldConfig inv = PathTrie.invalid(idxRules);
+                boolean invFlag = inv != null;
+                InvalidDataType invType = invFlag ? inv.getInvalidType() : null;
+
+                Locale elemLocale = PathTrie.locale(idxRules, dtoLocale);
+                Faker faker = ctx.faker(elemLocale);
+                FieldGenerator gen = generators.get(step.generatorIndex);
+                long startNanos = 0;
+                long startBytes = 0;
+                if (stats != null) {
+                    startNanos = System.nanoTime();
+                    startBytes = StatsCollector.allocatedBytes();
+                }
+                ValueGenerationEvent event = new ValueGenerationEvent();
+                event.begin();
+                elem = invFlag ? gen.generateInvalid(field, cfg, invType, faker, ctx.random())
+                        : gen.generateValid(field, faker, cfg, ctx.random());
+                UniqueSet unique = PathTrie.unique(idxRules);
+                if (unique != null) {
+                    elem = ensureUnique(unique, elem, gen, field, cfg, invType, faker, ctx.random());
+                }
+                if (flyweight != null && elem instanceof String str && gen.isDictionary()) {
+                    elem = flyweight.canonical(str);
+                }
+                commit(event, gen, field, elemLocale, invFlag);
+                if (stats != null) {
+                    stats.recordValue(elemPath, gen.getClass(), elemLocale, startNanos, startBytes);
+                }
+            }
+            list.add(elem);
+        }
+    }
+
+    /** Вложенный DTO из общего пула flyweight; выбор экземпляра берёт случайность записи. */
+    private Object sharedDto(Class<?> type, boolean onlyRequired, Set<String> requiredTags, Locale locale,
+                             GenerationContext ctx, String path) {
+        int slot = ctx.random().nextInt(Flyweight.SHARED_POOL_SIZE);
+        return flyweight.shared(type, locale, onlyRequired, requiredTags, slot,
+                () -> fillShared(type, onlyRequired, requiredTags, locale, path));
+    }
+
+    /** Пул экземпляров зависит только от базового сида и ключа пула, но не от порядка обращений. */
+    private Flyweight.SharedPool fillShared(Class<?> type, boolean onlyRequired, Set<String> requiredTags,
+                                            Locale locale, String path) {
+        GenerationContext poolCtx = newContext();
+        long seed = baseSeed + Objects.hash(type.getName(), String.valueOf(locale), onlyRequired, requiredTags);
+        // без статистики StatsCollector не загружается: его инициализация включает учёт аллокаций в JVM
+        long startBytes = stats == null ? 0 : StatsCollector.allocatedBytes();
+        Object[] instances = new Object[Flyweight.SHARED_POOL_SIZE];
+        for (int i = 0; i < instances.length; i++) {
+            poolCtx.startRecord(recordSeed(seed, i));
+            instances[i] = generateFilteredData(type, onlyRequired, requiredTags, PathTrie.NONE, locale, poolCtx, path);
+        }
+        long bytesPerInstance = stats == null ? 0 : (StatsCollector.allocatedBytes() - startBytes) / instances.length;
+        return new Flyweight.SharedPool(instances, bytesPerInstance);
+    }
+
+    /**
+     * Перегенерирует значение, пока оно не станет новым для {@code unique}, но не больше {@link #UNIQUE_ATTEMPTS} раз.
+     * Повторы берут случайность из источника записи, поэтому последовательная генерация остаётся воспроизводимой.
+     */
+    static Object ensureUnique(UniqueSet unique, Object value, FieldGenerator gen, Field field, InvalidDataConfig cfg,
+                               InvalidDataType invType, Faker faker, RandomSource random) {
+        for (int attempt = 1; !unique.add(value); attempt++) {
+            if (attempt >= UNIQUE_ATTEMPTS) {
+                throw new IllegalStateException("Не удалось получить уникальное значение для " + unique.path()
+                        + " за " + UNIQUE_ATTEMPTS + " попыток: пространство значений генератора "
+                        + gen.getClass().getSimpleName() + " исчерпано");
+            }
+            unique.recordRetry();
+            value = invType != null ? gen.generateInvalid(field, cfg, invType, faker, random)
+                    : gen.generateValid(field, faker, cfg, random);
+        }
+        return value;
+    }
+
+    private static void commit(ValueGenerationEvent event, FieldGenerator gen, Field field, Locale locale, boolean invalid) {
+        if (event.shouldCommit()) {
+            event.generator = gen.getClass();
+            event.dtoClass = field.getDeclaringClass();
+            event.field = field.getName();
+            event.locale = String.valueOf(locale);
+            event.invalid = invalid;
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package org.example.generator;
+
+import java.util.List;
+
+/**
+ * Приёмник записей для {@link CoreDataGenerator.Builder#buildInto(long, RecordSink)}.
+ * Граф DTO разворачивается в строки таблиц ({@link SinkTable}): корень — одна строка, вложенный DTO и каждый
+ * элемент списка — строка дочерней таблицы со ссылкой {@code parent_id} на строку родителя
+ * (вложенные DTO — колонками родителя, если {@link #inlineNested()}).
+ * Строка родителя всегда передаётся раньше строк его детей.
+ * <p>
+ * Все методы вызываются из одного потока, генерация при этом идёт параллельно в другом.
+ */
+public interface RecordSink {
+
+    /**
+     * {@code true} — вложенные DTO (не списки) разворачиваются в колонки родителя с префиксом пути
+     * ({@code passport_series}, {@code addresses_none_list_city_city}), и отдельные таблицы остаются только у списков.
+     */
+    default boolean inlineNested() {
+        return false;
+    }
+
+    /** Вызывается один раз перед первой строкой; таблицы упорядочены так, что родитель идёт раньше детей. */
+    void open(List<SinkTable> tables) throws Exception;
+
+    /** Строка таблицы в порядке {@link SinkTable#getColumns()}; массив принадлежит приёмнику. */
+    void accept(SinkTable table, Object[] row) throws Exception;
+
+    /** Вызывается после последней строки: дописать буферы. Не вызывается, если генерация упала. */
+    default void finish() throws Exception {
+    }
+}
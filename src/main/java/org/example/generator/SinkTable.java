@@ -0,0 +1,39 @@
+package org.example.generator;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Таблица развёрнутого графа DTO для {@link RecordSink}. Имя строится из пути в snake_case
+ * ({@code customer}, {@code customer_addresses}, {@code customer_addresses_city}).
+ * <p>
+ * Колонки: {@code id} — сквозной номер строки в таблице начиная с 1 (у корня совпадает с индексом записи + 1),
+ * у дочерних таблиц {@code parent_id} — {@code id} строки родителя, у элементов списка {@code idx} — позиция в списке,
+ * у списков значений {@code element} — само значение, дальше скалярные поля DTO.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PACKAGE)
+public final class SinkTable {
+
+    public static final String ID = "id";
+    public static final String PARENT_ID = "parent_id";
+    public static final String INDEX = "idx";
+    public static final String ELEMENT = "element";
+
+    /** Позиция в списке таблиц {@link RecordSink#open(List)}. */
+    private final int index;
+    private final String name;
+    /** {@code null} у корневой таблицы. */
+    private final SinkTable parent;
+    private final List<String> columns;
+    /** Java-тип каждой колонки; примитивы — как в DTO ({@code int.class}). */
+    private final List<Class<?>> columnTypes;
+
+    @Override
+    public String toString() {
+        return name + columns;
+    }
+}
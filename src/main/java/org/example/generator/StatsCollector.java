@@ -0,0 +1,103 @@
+package org.example.generator;
+
+import java.lang.management.ManagementFactory;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Потокобезопасный накопитель {@link GenerationStats}. Живёт в билдере и копит метрики всех его запусков;
+ * если статистика не включена, генерация получает {@code null} и не делает ни одного лишнего вызова.
+ * Аллоцированные байты берутся из {@link com.sun.management.ThreadMXBean#getCurrentThreadAllocatedBytes()}.
+ */
+final class StatsCollector {
+
+    private static final com.sun.management.ThreadMXBean THREADS = allocationBean();
+
+    private final ConcurrentHashMap<String, Counter> generators = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Counter> paths = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Counter> locales = new ConcurrentHashMap<>();
+    private final LongAdder internedStrings = new LongAdder();
+    private final LongAdder internedBytes = new LongAdder();
+    private final LongAdder sharedDtos = new LongAdder();
+    private final LongAdder sharedBytes = new LongAdder();
+
+    private static com.sun.management.ThreadMXBean allocationBean() {
+        try {
+            if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean
+                    && bean.isThreadAllocatedMemorySupported()) {
+                if (!bean.isThreadAllocatedMemoryEnabled()) bean.setThreadAllocatedMemoryEnabled(true);
+                return bean;
+            }
+        } catch (RuntimeException | LinkageError unsupported) {
+            // нет com.sun.management или запрещено политикой — считаем только время
+        }
+        return null;
+    }
+
+    static long allocatedBytes() {
+        return THREADS == null ? 0 : THREADS.getCurrentThreadAllocatedBytes();
+    }
+
+    void recordPath(String path, long startNanos, long startBytes) {
+        add(paths, path, System.nanoTime() - startNanos, allocatedBytes() - startBytes);
+    }
+
+    /** Вызов генератора значения: попадает во все три среза. */
+    void recordValue(String path, Class<?> generator, Locale locale, long startNanos, long startBytes) {
+        recordValues(path, generator, locale, 1, startNanos, startBytes);
+    }
+
+    /** Пакет из {@code count} значений одного генератора: засчитывается как {@code count} вызовов. */
+    void recordValues(String path, Class<?> generator, Locale locale, int count, long startNanos, long startBytes) {
+        long nanos = System.nanoTime() - startNanos;
+        long bytes = allocatedBytes() - startBytes;
+        add(paths, path, count, nanos, bytes);
+        add(generators, generator.getSimpleName(), count, nanos, bytes);
+        add(locales, locale == null ? "default" : locale.toLanguageTag(), count, nanos, bytes);
+    }
+
+    /** Строка заменена каноническим экземпляром из пула flyweight. */
+    void recordInterned(long bytes) {
+        internedStrings.increment();
+        internedBytes.add(bytes);
+    }
+
+    /** Вложенный DTO взят из общего пула flyweight вместо генерации. */
+    void recordShared(long bytes) {
+        sharedDtos.increment();
+        sharedBytes.add(bytes);
+    }
+
+    private static void add(ConcurrentHashMap<String, Counter> map, String key, long nanos, long bytes) {
+        add(map, key, 1, nanos, bytes);
+    }
+
+    private static void add(ConcurrentHashMap<String, Counter> map, String key, int calls, long nanos, long bytes) {
+        Counter counter = map.get(key);
+        if (counter == null) counter = map.computeIfAbsent(key, k -> new Counter());
+        counter.calls.add(calls);
+        counter.nanos.add(nanos);
+        counter.bytes.add(bytes);
+    }
+
+    GenerationStats snapshot() {
+        return new GenerationStats(snapshot(generators), snapshot(paths), snapshot(locales),
+                new GenerationStats.FlyweightSavings(internedStrings.sum(), internedBytes.sum(),
+                        sharedDtos.sum(), sharedBytes.sum()));
+    }
+
+    private static Map<String, GenerationStats.Metric> snapshot(ConcurrentHashMap<String, Counter> map) {
+        Map<String, GenerationStats.Metric> out = new HashMap<>();
+        map.forEach((key, c) -> out.put(key, new GenerationStats.Metric(c.calls.sum(), c.nanos.sum(), c.bytes.sum())));
+        return GenerationStats.sorted(out);
+    }
+
+    private static final class Counter {
+        final LongAdder calls = new LongAdder();
+        final LongAdder nanos = new LongAdder();
+        final LongAdder bytes = new LongAdder();
+    }
+}
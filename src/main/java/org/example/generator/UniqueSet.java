@@ -0,0 +1,147 @@
+package org.example.generator;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Множество уже выданных значений одного пути из {@code unique(path)}.
+ * Хранит не сами значения, а их 64-битные отпечатки в открытой адресации (линейное пробирование)
+ * вне кучи: 8 байт на слот при заполнении не выше {@link #MAX_LOAD}, то есть 11–23 МБ на миллион значений
+ * и никакой нагрузки на GC. Ложное совпадение отпечатков (~n/2<sup>64</sup>) стоит лишь лишней попытки генерации,
+ * поэтому точная проверка не нужна.
+ * <p>
+ * Вставка идёт под read-lock через CAS по слоту и из любого числа потоков; рост таблицы — под write-lock.
+ */
+final class UniqueSet {
+
+    static final double MAX_LOAD = 0.7;
+    /** Предел одного direct-буфера: смещение в байтах должно помещаться в int. */
+    private static final int MAX_CAPACITY = 1 << 28;
+    private static final int INITIAL_CAPACITY = 1 << 12;
+    /** Пустой слот; отпечаток 0 заменяется на 1. */
+    private static final long EMPTY = 0L;
+    private static final VarHandle SLOT = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.nativeOrder());
+
+    private final String path;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final AtomicLong size = new AtomicLong();
+    private final LongAdder retries = new LongAdder();
+    private ByteBuffer table;
+    private int mask;
+    private volatile long threshold;
+
+    UniqueSet(String path) {
+        this.path = path;
+        allocate(INITIAL_CAPACITY);
+    }
+
+    private void allocate(int capacity) {
+        table = ByteBuffer.allocateDirect(capacity * Long.BYTES).order(ByteOrder.nativeOrder());
+        mask = capacity - 1;
+        threshold = (long) (capacity * MAX_LOAD);
+    }
+
+    String path() {
+        return path;
+    }
+
+    /**
+     * {@code true}, если значение встретилось впервые; {@code null} уникальным не считается и не запоминается.
+     * Таблица растёт до вставки, поэтому при исчерпании ёмкости значение не запоминается, а пробирование
+     * всегда находит свободный слот.
+     */
+    boolean add(Object value) {
+        if (value == null) return true;
+        long fp = fingerprint(value);
+        while (true) {
+            lock.readLock().lock();
+            try {
+                if (size.get() < threshold) {
+                    boolean added = insert(table, mask, fp);
+                    if (added) size.incrementAndGet();
+                    return added;
+                }
+            } finally {
+                lock.readLock().unlock();
+            }
+            grow();
+        }
+    }
+
+    void recordRetry() {
+        retries.increment();
+    }
+
+    private static boolean insert(ByteBuffer table, int mask, long fp) {
+        int slot = (int) (fp ^ (fp >>> 32)) & mask;
+        while (true) {
+            int offset = slot << 3;
+            long current = (long) SLOT.getVolatile(table, offset);
+            if (current == EMPTY) {
+                if (SLOT.compareAndSet(table, offset, EMPTY, fp)) return true;
+                current = (long) SLOT.getVolatile(table, offset);
+            }
+            if (current == fp) return false;
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    private void grow() {
+        lock.writeLock().lock();
+        try {
+            if (size.get() < threshold) return;
+            int capacity = mask + 1;
+            if (capacity >= MAX_CAPACITY) {
+                throw new IllegalStateException("Слишком много уникальных значений для " + path + ": " + size.get());
+            }
+            ByteBuffer old = table;
+            allocate(capacity << 1);
+            for (int offset = 0; offset < capacity << 3; offset += Long.BYTES) {
+                long fp = old.getLong(offset);
+                if (fp != EMPTY) insert(table, mask, fp);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    UniqueStats snapshot() {
+        lock.readLock().lock();
+        try {
+            return new UniqueStats(path, size.get(), retries.sum(), table.capacity());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** 64-битный отпечаток: целые числа — по значению, остальное — по строковому представлению. */
+    static long fingerprint(Object value) {
+        long h;
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            h = mix(((Number) value).longValue() * 0x9E3779B97F4A7C15L);
+        } else {
+            CharSequence s = value instanceof CharSequence cs ? cs : value.toString();
+            h = 0xCBF29CE484222325L ^ s.length();
+            for (int i = 0; i < s.length(); i++) {
+                h = (h ^ s.charAt(i)) * 0x100000001B3L;
+            }
+            h = mix(h);
+        }
+        return h == EMPTY ? 1 : h;
+    }
+
+    /** Финальное перемешивание MurmurHash3 (fmix64). */
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB93FE1A85A2BL;
+        h ^= h >>> 33;
+        return h;
+    }
+}
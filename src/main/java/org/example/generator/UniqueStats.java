@@ -0,0 +1,30 @@
+package org.example.generator;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Value;
+
+/**
+ * Состояние одного пути из {@code unique(path)} после генерации: сколько значений выдано,
+ * сколько раз генератор повторялся из-за совпадения и сколько памяти вне кучи занимают отпечатки.
+ */
+@Value
+@AllArgsConstructor(access = AccessLevel.PACKAGE)
+public class UniqueStats {
+
+    String path;
+    long values;
+    long retries;
+    long offHeapBytes;
+
+    /** Память на миллион уникальных значений при текущем заполнении таблицы. */
+    public long bytesPerMillion() {
+        return values == 0 ? 0 : Math.round(offHeapBytes * 1_000_000.0 / values);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: %d values, %d retries, %.1f MB off-heap (%.1f MB per million)",
+                path, values, retries, offHeapBytes / 1e6, bytesPerMillion() / 1e6);
+    }
+}
@@ -0,0 +1,29 @@
+package org.example.generator.dataGenerator.dictionary;
+
+import com.github.javafaker.Faker;
+
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * Faker, к которому привязан {@link LocaleDictionary} его локали.
+ * Такие экземпляры выдаёт пул Faker-ов генерации; горячие генераторы берут из него словарь
+ * и выбирают значения по индексу, не проходя через разбор выражений Faker.
+ */
+public class DictionaryFaker extends Faker {
+    private final LocaleDictionary dictionary;
+
+    public DictionaryFaker(Locale locale, Random random) {
+        super(locale, random);
+        this.dictionary = LocaleDictionary.of(locale);
+    }
+
+    public LocaleDictionary dictionary() {
+        return dictionary;
+    }
+
+    /** Таблица ключа для Faker-а с привязанным словарём, иначе {@code null}. */
+    public static DictionaryTable table(Faker faker, String key) {
+        return faker instanceof DictionaryFaker df ? df.dictionary.table(key) : null;
+    }
+}
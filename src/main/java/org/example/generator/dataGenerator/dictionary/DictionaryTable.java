@@ -0,0 +1,86 @@
+package org.example.generator.dataGenerator.dictionary;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Скомпилированный словарный ключ Faker (например {@code address.street_address}).
+ * Листья — плоские {@code String[]}, шаблоны вида {@code #{street_name}, #{building_number}}
+ * разобраны заранее на литералы и ссылки на другие таблицы, поэтому выборка — это несколько
+ * обращений по индексу и, для шаблонов, одна строка на результат.
+ * Распределение совпадает с Faker: сначала равновероятно выбирается вариант, затем рекурсивно его части.
+ */
+public abstract class DictionaryTable {
+
+    DictionaryTable() {
+    }
+
+    public final String sample(RandomGenerator random) {
+        return sample(random, null);
+    }
+
+    /** Дописывает значение в {@code out}, если он передан; иначе возвращает строку. */
+    abstract String sample(RandomGenerator random, StringBuilder out);
+
+    /** Таблица из готовых значений; {@code #} в значениях заменяются случайными цифрами, как в Faker.numerify. */
+    static final class Leaf extends DictionaryTable {
+        private final String[] values;
+        private final boolean[] numerify;
+
+        Leaf(String[] values) {
+            this.values = values;
+            this.numerify = new boolean[values.length];
+            for (int i = 0; i < values.length; i++) {
+                numerify[i] = values[i].indexOf('#') >= 0;
+            }
+        }
+
+        @Override
+        String sample(RandomGenerator random, StringBuilder out) {
+            int i = values.length == 1 ? 0 : random.nextInt(values.length);
+            String value = values[i];
+            if (!numerify[i]) {
+                if (out == null) return value;
+                out.append(value);
+                return null;
+            }
+            if (out == null) {
+                char[] chars = value.toCharArray();
+                for (int c = 0; c < chars.length; c++) {
+                    if (chars[c] == '#') chars[c] = (char) ('0' + random.nextInt(10));
+                }
+                return new String(chars);
+            }
+            for (int c = 0; c < value.length(); c++) {
+                char ch = value.charAt(c);
+                out.append(ch == '#' ? (char) ('0' + random.nextInt(10)) : ch);
+            }
+            return null;
+        }
+    }
+
+    /** Таблица шаблонов: вариант — последовательность частей (литерал {@link String} или ссылка {@link DictionaryTable}). */
+    static final class Template extends DictionaryTable {
+        private final Object[][] alternatives;
+
+        Template(Object[][] alternatives) {
+            this.alternatives = alternatives;
+        }
+
+        @Override
+        String sample(RandomGenerator random, StringBuilder out) {
+            Object[] parts = alternatives[alternatives.length == 1 ? 0 : random.nextInt(alternatives.length)];
+            if (parts.length == 1 && parts[0] instanceof DictionaryTable only) {
+                return only.sample(random, out);
+            }
+            StringBuilder sb = out != null ? out : new StringBuilder(32);
+            for (Object part : parts) {
+                if (part instanceof String literal) {
+                    sb.append(literal);
+                } else {
+                    ((DictionaryTable) part).sample(random, sb);
+                }
+            }
+            return out != null ? null : sb.toString();
+        }
+    }
+}
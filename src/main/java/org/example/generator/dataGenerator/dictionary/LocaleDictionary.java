@@ -0,0 +1,130 @@
+package org.example.generator.dataGenerator.dictionary;
+
+import com.github.javafaker.service.FakeValuesService;
+import com.github.javafaker.service.RandomService;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Плоские словари локали, загруженные из YAML Faker один раз на JVM.
+ * Ключи компилируются лениво в {@link DictionaryTable}; если ключ использует выражения,
+ * которые нельзя разобрать статически (вызовы методов с аргументами и т.п.), {@link #table} вернёт
+ * {@code null} и генератор должен использовать обычный API Faker.
+ * Экземпляры неизменяемы после компиляции ключа и безопасны для общих потоков.
+ */
+public final class LocaleDictionary {
+
+    private static final Map<Locale, LocaleDictionary> DICTIONARIES = new ConcurrentHashMap<>();
+    private static final DictionaryTable MISSING = new DictionaryTable.Leaf(new String[0]);
+    private static final int MAX_DEPTH = 8;
+
+    private final FakeValuesService values;
+    private final Map<String, DictionaryTable> tables = new ConcurrentHashMap<>();
+
+    private LocaleDictionary(Locale locale) {
+        // RandomService здесь не используется: сервис нужен только для чтения YAML с цепочкой локалей
+        this.values = new FakeValuesService(locale, new RandomService());
+    }
+
+    /** Словарь локали; {@code null} — локаль Faker по умолчанию (en). */
+    public static LocaleDictionary of(Locale locale) {
+        return DICTIONARIES.computeIfAbsent(locale == null ? Locale.ENGLISH : locale, LocaleDictionary::new);
+    }
+
+    /** Таблица для ключа Faker вида {@code section.key} или {@code null}, если ключ не компилируется. */
+    public DictionaryTable table(String key) {
+        DictionaryTable table = tables.get(key);
+        if (table == null) {
+            table = compile(key, 0);
+            tables.putIfAbsent(key, table == null ? MISSING : table);
+            table = tables.get(key);
+        }
+        return table == MISSING ? null : table;
+    }
+
+    /** Первая таблица из списка ключей, которую удалось скомпилировать. */
+    public DictionaryTable firstAvailable(String... keys) {
+        for (String key : keys) {
+            DictionaryTable table = table(key);
+            if (table != null) return table;
+        }
+        return null;
+    }
+
+    private DictionaryTable compile(String key, int depth) {
+        if (depth > MAX_DEPTH) return null;
+        DictionaryTable cached = tables.get(key);
+        if (cached != null) return cached == MISSING ? null : cached;
+
+        Object raw = values.fetchObject(key);
+        List<String> options = new ArrayList<>();
+        if (raw instanceof String s) {
+            options.add(s);
+        } else if (raw instanceof List<?> list && !list.isEmpty()) {
+            for (Object o : list) {
+                if (!(o instanceof String s)) return null;
+                options.add(s);
+            }
+        } else {
+            return null;
+        }
+
+        String section = key.substring(0, key.lastIndexOf('.') + 1);
+        boolean plain = options.stream().noneMatch(o -> o.contains("#{"));
+        if (plain) {
+            return new DictionaryTable.Leaf(options.toArray(new String[0]));
+        }
+        Object[][] alternatives = new Object[options.size()][];
+        for (int i = 0; i < options.size(); i++) {
+            Object[] parts = parseTemplate(options.get(i), section, depth);
+            if (parts == null) return null;
+            alternatives[i] = parts;
+        }
+        return new DictionaryTable.Template(alternatives);
+    }
+
+    /** Разбирает {@code "#{a} text #{Name.b}"} на литералы и таблицы. */
+    private Object[] parseTemplate(String template, String section, int depth) {
+        List<Object> parts = new ArrayList<>();
+        int pos = 0;
+        while (pos < template.length()) {
+            int start = template.indexOf("#{", pos);
+            if (start < 0) {
+                parts.add(template.substring(pos));
+                break;
+            }
+            if (start > pos) parts.add(template.substring(pos, start));
+            int end = template.indexOf('}', start);
+            if (end < 0) return null;
+            String directive = template.substring(start + 2, end);
+            DictionaryTable ref = compile(resolveKey(directive, section), depth + 1);
+            if (ref == null) return null;
+            parts.add(ref);
+            pos = end + 1;
+        }
+        // литералы с '#' (номера домов внутри шаблона) Faker тоже не трогает — оставляем как есть
+        return parts.toArray();
+    }
+
+    /** {@code street_suffix} → {@code address.street_suffix}, {@code Name.first_name} → {@code name.first_name}. */
+    private static String resolveKey(String directive, String section) {
+        int dot = directive.indexOf('.');
+        if (dot < 0) return section + directive;
+        String owner = directive.substring(0, dot);
+        StringBuilder snake = new StringBuilder();
+        for (int i = 0; i < owner.length(); i++) {
+            char c = owner.charAt(i);
+            if (Character.isUpperCase(c)) {
+                if (i > 0) snake.append('_');
+                snake.append(Character.toLowerCase(c));
+            } else {
+                snake.append(c);
+            }
+        }
+        return snake + directive.substring(dot);
+    }
+}
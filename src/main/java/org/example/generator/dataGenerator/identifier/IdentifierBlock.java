@@ -0,0 +1,68 @@
+package org.example.generator.dataGenerator.identifier;
+
+import java.nio.CharBuffer;
+
+/**
+ * N идентификаторов одинаковой ширины в одном непрерывном {@code char[]}.
+ * Сам блок — {@link CharSequence} над всем буфером; отдельные значения доступны как
+ * представления без копирования ({@link #view}) или как строки ({@link #get}).
+ */
+public final class IdentifierBlock implements CharSequence {
+    private final char[] buf;
+    private final int width;
+    private final int count;
+
+    IdentifierBlock(char[] buf, int width, int count) {
+        this.buf = buf;
+        this.width = width;
+        this.count = count;
+    }
+
+    /** Количество идентификаторов в блоке. */
+    public int count() {
+        return count;
+    }
+
+    public int width() {
+        return width;
+    }
+
+    /** Непосредственный доступ к буферу (без копирования). */
+    public char[] buffer() {
+        return buf;
+    }
+
+    /** Значение {@code i} как представление над буфером. */
+    public CharSequence view(int i) {
+        return CharBuffer.wrap(buf, offset(i), width);
+    }
+
+    public String get(int i) {
+        return new String(buf, offset(i), width);
+    }
+
+    private int offset(int i) {
+        if (i < 0 || i >= count) throw new IndexOutOfBoundsException(i);
+        return i * width;
+    }
+
+    @Override
+    public int length() {
+        return buf.length;
+    }
+
+    @Override
+    public char charAt(int index) {
+        return buf[index];
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        return CharBuffer.wrap(buf, start, end - start);
+    }
+
+    @Override
+    public String toString() {
+        return new String(buf);
+    }
+}
@@ -0,0 +1,82 @@
+package org.example.generator.dataGenerator.identifier;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Форматы числовых идентификаторов. Цифры и контрольные разряды пишутся прямо в переданный
+ * {@code char[]} без промежуточных массивов и строк; см. {@link NumericIdentifiers}.
+ */
+public enum IdentifierFormat {
+    /** ИНН юрлица: 9 случайных цифр + контрольная. */
+    INN_10(10) {
+        @Override
+        void writeUnchecked(RandomGenerator random, char[] buf, int off) {
+            NumericIdentifiers.fillDigits(random, buf, off, 9);
+            buf[off + 9] = NumericIdentifiers.checkDigit(buf, off, NumericIdentifiers.COEF_10);
+        }
+    },
+    /** ИНН физлица/ИП: 10 случайных цифр + две контрольные. */
+    INN_12(12) {
+        @Override
+        void writeUnchecked(RandomGenerator random, char[] buf, int off) {
+            NumericIdentifiers.fillDigits(random, buf, off, 10);
+            buf[off + 10] = NumericIdentifiers.checkDigit(buf, off, NumericIdentifiers.COEF_11_1);
+            buf[off + 11] = NumericIdentifiers.checkDigit(buf, off, NumericIdentifiers.COEF_11_2);
+        }
+    },
+    /** КПП: 9 цифр. */
+    KPP(9) {
+        @Override
+        void writeUnchecked(RandomGenerator random, char[] buf, int off) {
+            NumericIdentifiers.fillDigits(random, buf, off, 9);
+        }
+    },
+    /** Серия паспорта РФ: 4 цифры. */
+    RU_PASSPORT_SERIES(4) {
+        @Override
+        void writeUnchecked(RandomGenerator random, char[] buf, int off) {
+            NumericIdentifiers.fillDigits(random, buf, off, 4);
+        }
+    },
+    /** Номер паспорта РФ: 6 цифр. */
+    RU_PASSPORT_NUMBER(6) {
+        @Override
+        void writeUnchecked(RandomGenerator random, char[] buf, int off) {
+            NumericIdentifiers.fillDigits(random, buf, off, 6);
+        }
+    },
+    /** Код подразделения: {@code ddd-ddd}. */
+    RU_PASSPORT_CODE(7) {
+        @Override
+        void writeUnchecked(RandomGenerator random, char[] buf, int off) {
+            NumericIdentifiers.fillDigits(random, buf, off, 6);
+            // сдвигаем последние три цифры, освобождая место под дефис
+            buf[off + 6] = buf[off + 5];
+            buf[off + 5] = buf[off + 4];
+            buf[off + 4] = buf[off + 3];
+            buf[off + 3] = '-';
+        }
+    };
+
+    private final int width;
+
+    IdentifierFormat(int width) {
+        this.width = width;
+    }
+
+    /** Длина идентификатора в символах. */
+    public int width() {
+        return width;
+    }
+
+    /** Пишет один идентификатор в {@code buf} с позиции {@code off}; возвращает позицию после него. */
+    public int write(RandomGenerator random, char[] buf, int off) {
+        if (off < 0 || off + width > buf.length) {
+            throw new IndexOutOfBoundsException("Нет места под " + name() + " с позиции " + off);
+        }
+        writeUnchecked(random, buf, off);
+        return off + width;
+    }
+
+    abstract void writeUnchecked(RandomGenerator random, char[] buf, int off);
+}
@@ -0,0 +1,84 @@
+package org.example.generator.dataGenerator.identifier;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Генерация числовых идентификаторов (ИНН, КПП, паспортные данные) без промежуточных аллокаций.
+ * Случайные цифры берутся блоками по 18 из одного {@code nextLong(10^n)}, контрольные разряды
+ * считаются прямо по символам буфера. На одно значение аллоцируется только итоговая {@link String};
+ * пакетный режим {@link #fill} пишет N значений в один непрерывный буфер.
+ */
+public final class NumericIdentifiers {
+
+    static final int[] COEF_10 = {2, 4, 10, 3, 5, 9, 4, 6, 8};
+    static final int[] COEF_11_1 = {7, 2, 4, 10, 3, 5, 9, 4, 6, 8};       // первая контрольная цифра 12-значного ИНН
+    static final int[] COEF_11_2 = {3, 7, 2, 4, 10, 3, 5, 9, 4, 6, 8};    // вторая контрольная цифра 12-значного ИНН
+
+    private static final long[] POW10 = new long[19];
+    static {
+        POW10[0] = 1;
+        for (int i = 1; i < POW10.length; i++) POW10[i] = POW10[i - 1] * 10;
+    }
+
+    /** Буфер одного значения на поток; самый длинный формат — 12 символов, случайные строки — до 64. */
+    private static final ThreadLocal<char[]> SCRATCH = ThreadLocal.withInitial(() -> new char[64]);
+
+    private NumericIdentifiers() {
+    }
+
+    /** Один идентификатор в виде строки. */
+    public static String next(IdentifierFormat format, RandomGenerator random) {
+        char[] buf = SCRATCH.get();
+        format.writeUnchecked(random, buf, 0);
+        return new String(buf, 0, format.width());
+    }
+
+    /** Строка из {@code count} случайных цифр (для невалидных значений неправильной длины). */
+    public static String digits(RandomGenerator random, int count) {
+        char[] buf = count <= 64 ? SCRATCH.get() : new char[count];
+        fillDigits(random, buf, 0, count);
+        return new String(buf, 0, count);
+    }
+
+    /** Пакетный режим: {@code n} идентификаторов подряд в новый буфер. */
+    public static IdentifierBlock fill(IdentifierFormat format, RandomGenerator random, int n) {
+        char[] buf = new char[Math.multiplyExact(n, format.width())];
+        fill(format, random, n, buf, 0);
+        return new IdentifierBlock(buf, format.width(), n);
+    }
+
+    /** Пакетный режим в буфер вызывающего: {@code n} идентификаторов подряд с позиции {@code off}. */
+    public static int fill(IdentifierFormat format, RandomGenerator random, int n, char[] buf, int off) {
+        int width = format.width();
+        if (off < 0 || (long) off + (long) n * width > buf.length) {
+            throw new IndexOutOfBoundsException("Нет места под " + n + " x " + format);
+        }
+        for (int i = 0; i < n; i++, off += width) {
+            format.writeUnchecked(random, buf, off);
+        }
+        return off;
+    }
+
+    static void fillDigits(RandomGenerator random, char[] buf, int off, int count) {
+        while (count > 0) {
+            int chunk = Math.min(count, 18);
+            long value = random.nextLong(POW10[chunk]);
+            for (int i = off + chunk - 1; i >= off; i--) {
+                buf[i] = (char) ('0' + (int) (value % 10));
+                value /= 10;
+            }
+            off += chunk;
+            count -= chunk;
+        }
+    }
+
+    /** Контрольная цифра ИНН: сумма произведений по модулю 11, остаток 10 даёт 0. */
+    static char checkDigit(char[] buf, int off, int[] coef) {
+        int sum = 0;
+        for (int i = 0; i < coef.length; i++) {
+            sum += (buf[off + i] - '0') * coef[i];
+        }
+        int remainder = sum % 11;
+        return (char) ('0' + (remainder == 10 ? 0 : remainder));
+    }
+}
@@ -13,6 +13,11 @@ public class DefaultFieldGenerator implements FieldGenerator {
         return true; // fallback
     }
 
+    @Override
+    public int priority() {
+        return Integer.MIN_VALUE; // всегда последний
+    }
+
     @Override
     public Object generateValid(Field field, Faker faker, InvalidDataConfig cfg) {
         Class<?> type = field.getType();
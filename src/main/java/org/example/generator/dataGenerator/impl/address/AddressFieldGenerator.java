@@ -3,6 +3,9 @@ package org.example.generator.dataGenerator.impl.address;
 import com.github.javafaker.Faker;
 import org.example.config.InvalidDataConfig;
 import org.example.config.InvalidDataType;
+import org.example.generator.RandomSource;
+import org.example.generator.dataGenerator.dictionary.DictionaryFaker;
+import org.example.generator.dataGenerator.dictionary.DictionaryTable;
 import org.example.generator.dataGenerator.repository.FieldGenerator;
 
 import java.lang.reflect.Field;
@@ -14,6 +17,11 @@ public class AddressFieldGenerator implements FieldGenerator {
     public AddressFieldGenerator() {
     }
 
+    @Override
+    public boolean isDictionary() {
+        return true;
+    }
+
     @Override
     public boolean supports(Field field) {
         String fname = field.getName().toLowerCase();
@@ -27,6 +35,13 @@ public class AddressFieldGenerator implements FieldGenerator {
         return faker.address().streetAddress();
     }
 
+    @Override
+    public Object generateValid(Field field, Faker faker, InvalidDataConfig cfg, RandomSource random) {
+        // шаблон улицы локали уже развёрнут в таблицы, номер дома заполняется цифрами при выборке
+        DictionaryTable streets = DictionaryFaker.table(faker, "address.street_address");
+        return streets != null ? streets.sample(random) : generateValid(field, faker, cfg);
+    }
+
     @Override
     public Object generateInvalid(Field field, InvalidDataConfig cfg, InvalidDataType type, Faker faker) {
         switch (type) {
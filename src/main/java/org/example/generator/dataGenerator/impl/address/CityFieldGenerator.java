@@ -3,6 +3,9 @@ package org.example.generator.dataGenerator.impl.address;
 import com.github.javafaker.Faker;
 import org.example.config.InvalidDataConfig;
 import org.example.config.InvalidDataType;
+import org.example.generator.RandomSource;
+import org.example.generator.dataGenerator.dictionary.DictionaryFaker;
+import org.example.generator.dataGenerator.dictionary.DictionaryTable;
 import org.example.generator.dataGenerator.repository.FieldGenerator;
 
 import java.lang.reflect.Field;
@@ -14,6 +17,11 @@ public class CityFieldGenerator implements FieldGenerator {
     public CityFieldGenerator() {
     }
 
+    @Override
+    public boolean isDictionary() {
+        return true;
+    }
+
     @Override
     public boolean supports(Field field) {
         // Поле называется region
@@ -27,6 +35,12 @@ public class CityFieldGenerator implements FieldGenerator {
         return faker.address().state();
     }
 
+    @Override
+    public Object generateValid(Field field, Faker faker, InvalidDataConfig cfg, RandomSource random) {
+        DictionaryTable states = DictionaryFaker.table(faker, "address.state");
+        return states != null ? states.sample(random) : generateValid(field, faker, cfg);
+    }
+
     @Override
     public Object generateInvalid(Field field, InvalidDataConfig cfg, InvalidDataType type, Faker faker) {
         switch (type) {
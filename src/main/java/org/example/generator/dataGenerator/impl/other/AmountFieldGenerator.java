@@ -3,11 +3,20 @@ package org.example.generator.dataGenerator.impl.other;
 import com.github.javafaker.Faker;
 import org.example.config.InvalidDataConfig;
 import org.example.config.InvalidDataType;
+import org.example.generator.RandomSource;
 import org.example.generator.dataGenerator.repository.FieldGenerator;
+import org.example.generator.dataGenerator.repository.ValueSink;
 
 import java.lang.reflect.Field;
 import java.math.BigDecimal;
+import java.util.random.RandomGenerator;
 
+/**
+ * Денежные суммы {@code BigDecimal}: все пути генерации (Faker, {@link RandomSource}, пачки, невалидные значения)
+ * выбирают целое число копеек и отдают значение с масштабом 2. Валидная сумма лежит в
+ * {@code [minLength, maxLength]} включительно, TOO_SHORT — в {@code [0, minLength - 1]},
+ * TOO_LONG — в {@code [maxLength + 1, maxLength + 1000]}.
+ */
 public class AmountFieldGenerator implements FieldGenerator {
     public AmountFieldGenerator() {
     }
@@ -20,17 +29,44 @@ public class AmountFieldGenerator implements FieldGenerator {
 
     @Override
     public Object generateValid(Field field, Faker faker, InvalidDataConfig cfg) {
-        double value = faker.number().randomDouble(2, cfg.minLength(), (long)cfg.maxLength());
-        return BigDecimal.valueOf(value);
+        return BigDecimal.valueOf(cents(faker.random()::nextLong, minCents(cfg), maxCents(cfg)), 2);
+    }
+
+    @Override
+    public Object generateValid(Field field, Faker faker, InvalidDataConfig cfg, RandomSource random) {
+        return BigDecimal.valueOf(cents(random, minCents(cfg), maxCents(cfg)), 2);
+    }
+
+    @Override
+    public void generateValidBatch(Field field, Faker faker, InvalidDataConfig cfg, RandomSource random, int n, ValueSink sink) {
+        long min = minCents(cfg);
+        long max = maxCents(cfg);
+        for (int i = 0; i < n; i++) {
+            sink.accept(BigDecimal.valueOf(cents(random, min, max), 2));
+        }
+    }
+
+    // Сумма в копейках: целое число без погрешностей double, масштаб 2 задаётся при создании BigDecimal
+    private static long minCents(InvalidDataConfig cfg) {
+        return cfg.minLength() * 100L;
+    }
+
+    private static long maxCents(InvalidDataConfig cfg) {
+        return Math.max(cfg.minLength(), cfg.maxLength()) * 100L;
+    }
+
+    private static long cents(RandomGenerator random, long min, long max) {
+        return min == max ? min : random.nextLong(min, max + 1);
     }
 
     @Override
     public Object generateInvalid(Field field, InvalidDataConfig cfg, InvalidDataType type, Faker faker) {
         return switch (type) {
-            case TOO_SHORT -> BigDecimal.valueOf(faker.number().randomDouble(2, 0, Math.max(0, cfg.minLength() - 1)));
-            case TOO_LONG ->
-                    BigDecimal.valueOf(faker.number().randomDouble(2, cfg.maxLength() + 1, cfg.maxLength() + 1000));
-            default -> BigDecimal.ZERO;
+            case TOO_SHORT -> BigDecimal.valueOf(cents(faker.random()::nextLong,
+                    0, Math.max(0, cfg.minLength() - 1) * 100L), 2);
+            case TOO_LONG -> BigDecimal.valueOf(cents(faker.random()::nextLong,
+                    (cfg.maxLength() + 1L) * 100, (cfg.maxLength() + 1000L) * 100), 2);
+            default -> BigDecimal.ZERO.setScale(2);
         };
     }
 }
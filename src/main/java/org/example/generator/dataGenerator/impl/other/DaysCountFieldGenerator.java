@@ -2,9 +2,12 @@ package org.example.generator.dataGenerator.impl.other;
 import com.github.javafaker.Faker;
 import org.example.config.InvalidDataConfig;
 import org.example.config.InvalidDataType;
+import org.example.generator.RandomSource;
 import org.example.generator.dataGenerator.repository.FieldGenerator;
+import org.example.generator.dataGenerator.repository.ValueSink;
 
 import java.lang.reflect.Field;
+import java.util.random.RandomGenerator;
 
 public class DaysCountFieldGenerator implements FieldGenerator {
     public DaysCountFieldGenerator() {
@@ -21,6 +24,25 @@ public class DaysCountFieldGenerator implements FieldGenerator {
         return faker.number().numberBetween(cfg.minLength(), cfg.maxLength());
     }
 
+    @Override
+    public Object generateValid(Field field, Faker faker, InvalidDataConfig cfg, RandomSource random) {
+        return days(random, cfg.minLength(), cfg.maxLength());
+    }
+
+    @Override
+    public void generateValidBatch(Field field, Faker faker, InvalidDataConfig cfg, RandomSource random, int n, ValueSink sink) {
+        int min = cfg.minLength();
+        int max = cfg.maxLength();
+        for (int i = 0; i < n; i++) {
+            sink.acceptInt(days(random, min, max));
+        }
+    }
+
+    // как numberBetween у Faker: верхняя граница не включается
+    private static int days(RandomGenerator random, int min, int max) {
+        return max <= min ? min : random.nextInt(min, max);
+    }
+
     @Override
     public Object generateInvalid(Field field, InvalidDataConfig cfg, InvalidDataType type, Faker faker) {
         return switch (type) {
@@ -5,11 +5,19 @@ import org.example.ConfigurableGenerator;
 import org.example.config.InvalidDataConfig;
 import org.example.config.InvalidDataType;
 import org.example.generator.GeneratorConfig;
+import org.example.generator.RandomSource;
+import org.example.generator.dataGenerator.identifier.IdentifierFormat;
+import org.example.generator.dataGenerator.identifier.NumericIdentifiers;
+import org.example.generator.dataGenerator.regex.RegexSampler;
 import org.example.generator.dataGenerator.repository.FieldGenerator;
 
 import java.lang.reflect.Field;
+import java.util.random.RandomGenerator;
 
 public class PassportCodeFieldGenerator implements FieldGenerator, ConfigurableGenerator {
+    // эквивалент faker.bothify("??-??-###"), разобранный один раз
+    private static final RegexSampler FOREIGN_FORMAT = RegexSampler.of("[a-z]{2}-[a-z]{2}-\\d{3}");
+
     private  boolean russianFormat;
 
     public PassportCodeFieldGenerator( ) {
@@ -25,7 +33,16 @@ public class PassportCodeFieldGenerator implements FieldGenerator, ConfigurableG
 
     @Override
     public Object generateValid(Field field, Faker faker, InvalidDataConfig cfg) {
-        return russianFormat ? faker.regexify("\\d{3}-\\d{3}") : faker.bothify("??-??-###");
+        return generate(faker.random()::nextLong);
+    }
+
+    @Override
+    public Object generateValid(Field field, Faker faker, InvalidDataConfig cfg, RandomSource random) {
+        return generate(random);
+    }
+
+    private Object generate(RandomGenerator random) {
+        return russianFormat ? NumericIdentifiers.next(IdentifierFormat.RU_PASSPORT_CODE, random) : FOREIGN_FORMAT.sample(random);
     }
 
     @Override
@@ -5,11 +5,19 @@ import org.example.ConfigurableGenerator;
 import org.example.config.InvalidDataConfig;
 import org.example.config.InvalidDataType;
 import org.example.generator.GeneratorConfig;
+import org.example.generator.RandomSource;
+import org.example.generator.dataGenerator.identifier.IdentifierFormat;
+import org.example.generator.dataGenerator.identifier.NumericIdentifiers;
+import org.example.generator.dataGenerator.regex.RegexSampler;
 import org.example.generator.dataGenerator.repository.FieldGenerator;
 
 import java.lang.reflect.Field;
+import java.util.random.RandomGenerator;
 
 public class PassportSeriesFieldGenerator implements FieldGenerator, ConfigurableGenerator {
+    // эквивалент faker.bothify("??-###"), разобранный один раз
+    private static final RegexSampler FOREIGN_FORMAT = RegexSampler.of("[a-z]{2}-\\d{3}");
+
     private  boolean russianFormat;
 
     public PassportSeriesFieldGenerator() {
@@ -30,14 +38,28 @@ public class PassportSeriesFieldGenerator implements FieldGenerator, Configurabl
 
     @Override
     public Object generateValid(Field field, Faker faker, InvalidDataConfig cfg) {
-        return russianFormat ? faker.regexify("\\d{4}") : faker.bothify("??-###");
+        return russianFormat ? NumericIdentifiers.next(IdentifierFormat.RU_PASSPORT_SERIES, faker.random()::nextLong) : FOREIGN_FORMAT.sample(faker.random()::nextLong);
+    }
+
+    @Override
+    public Object generateValid(Field field, Faker faker, InvalidDataConfig cfg, RandomSource random) {
+        return russianFormat ? NumericIdentifiers.next(IdentifierFormat.RU_PASSPORT_SERIES, random) : FOREIGN_FORMAT.sample(random);
     }
 
     @Override
     public Object generateInvalid(Field field, InvalidDataConfig cfg, InvalidDataType type, Faker faker) {
+        return invalid(type, faker.random()::nextLong);
+    }
+
+    @Override
+    public Object generateInvalid(Field field, InvalidDataConfig cfg, InvalidDataType type, Faker faker, RandomSource random) {
+        return invalid(type, random);
+    }
+
+    private Object invalid(InvalidDataType type, RandomGenerator random) {
         return switch (type) {
-            case TOO_SHORT -> russianFormat ? faker.regexify("\\d{2}") : "1";
-            case TOO_LONG -> russianFormat ? faker.regexify("\\d{6}") : "LONGSERIES123";
+            case TOO_SHORT -> russianFormat ? NumericIdentifiers.digits(random, 2) : "1";
+            case TOO_LONG -> russianFormat ? NumericIdentifiers.digits(random, 6) : "LONGSERIES123";
             case CONTAINS_FORBIDDEN_CHARACTERS -> "ABCD";
             default -> null;
         };
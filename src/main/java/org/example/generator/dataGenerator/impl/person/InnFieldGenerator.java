@@ -5,19 +5,19 @@ import org.example.ConfigurableGenerator;
 import org.example.config.InvalidDataConfig;
 import org.example.config.InvalidDataType;
 import org.example.generator.GeneratorConfig;
+import org.example.generator.RandomSource;
+import org.example.generator.dataGenerator.identifier.IdentifierBlock;
+import org.example.generator.dataGenerator.identifier.IdentifierFormat;
+import org.example.generator.dataGenerator.identifier.NumericIdentifiers;
 import org.example.generator.dataGenerator.repository.FieldGenerator;
+import org.example.generator.dataGenerator.repository.ValueSink;
 
 import java.lang.reflect.Field;
-import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
 
 public class InnFieldGenerator implements FieldGenerator, ConfigurableGenerator {
 
-    private static final int[] COEF_10 = {2,4,10,3,5,9,4,6,8};
-    private static final int[] COEF_11_1 = {7,2,4,10,3,5,9,4,6,8};       // для первой контрольной цифры 12-значного ИНН
-    private static final int[] COEF_11_2 = {3,7,2,4,10,3,5,9,4,6,8};    // для второй контрольной цифры 12-значного ИНН
-
-    private static final Random random = new Random();
-
     private boolean IPorUL;
 
     public InnFieldGenerator() {
@@ -30,63 +30,55 @@ public class InnFieldGenerator implements FieldGenerator, ConfigurableGenerator
 
     @Override
     public Object generateValid(Field field, Faker faker, InvalidDataConfig cfg) {
-        return   IPorUL ? generateInn10() : generateInn12();
+        RandomGenerator source = faker.random()::nextLong;
+        return   IPorUL ? generateInn10(source) : generateInn12(source);
     }
 
-    public static String generateInn10() {
-        int[] digits = new int[10];
-        // Генерируем первые 9 цифр случайно
-        for (int i = 0; i < 9; i++) {
-            digits[i] = random.nextInt(10);
-        }
-        // Вычисляем контрольную цифру
-        digits[9] = calculateChecksum(digits, COEF_10);
-        // Формируем строку ИНН
-        StringBuilder inn = new StringBuilder();
-        for (int d : digits) {
-            inn.append(d);
+    @Override
+    public Object generateValid(Field field, Faker faker, InvalidDataConfig cfg, RandomSource random) {
+        return   IPorUL ? generateInn10(random) : generateInn12(random);
+    }
+
+    @Override
+    public void generateValidBatch(Field field, Faker faker, InvalidDataConfig cfg, RandomSource random, int n, ValueSink sink) {
+        // вся колонка пишется одним проходом в общий буфер
+        IdentifierBlock block = NumericIdentifiers.fill(IPorUL ? IdentifierFormat.INN_10 : IdentifierFormat.INN_12, random, n);
+        for (int i = 0; i < n; i++) {
+            sink.accept(block.get(i));
         }
-        return inn.toString();
+    }
+
+    public static String generateInn10() {
+        return generateInn10(ThreadLocalRandom.current());
+    }
+
+    public static String generateInn10(RandomGenerator random) {
+        return NumericIdentifiers.next(IdentifierFormat.INN_10, random);
     }
 
     // Метод генерации 12-значного ИНН
     public static String generateInn12() {
-        int[] digits = new int[12];
-        // Генерируем первые 10 цифр случайно
-        for (int i = 0; i < 10; i++) {
-            digits[i] = random.nextInt(10);
-        }
-        // Вычисляем первую контрольную цифру (11-я)
-        digits[10] = calculateChecksum(digits, COEF_11_1);
-        // Вычисляем вторую контрольную цифру (12-я)
-        digits[11] = calculateChecksum(digits, COEF_11_2);
-        // Формируем строку ИНН
-        StringBuilder inn = new StringBuilder();
-        for (int d : digits) {
-            inn.append(d);
-        }
-        return inn.toString();
+        return generateInn12(ThreadLocalRandom.current());
     }
 
-    // Метод вычисления контрольной цифры с учетом правил
-    private static int calculateChecksum(int[] digits, int[] coef) {
-        int sum = 0;
-        for (int i = 0; i < coef.length; i++) {
-            sum += digits[i] * coef[i];
-        }
-        int remainder = sum % 11;
-        if (remainder == 10) {
-            remainder = 0;
-        }
-        return remainder;
+    public static String generateInn12(RandomGenerator random) {
+        return NumericIdentifiers.next(IdentifierFormat.INN_12, random);
     }
 
-
     @Override
     public Object generateInvalid(Field field, InvalidDataConfig cfg, InvalidDataType type, Faker faker) {
+        return invalid(type, faker.random()::nextLong);
+    }
+
+    @Override
+    public Object generateInvalid(Field field, InvalidDataConfig cfg, InvalidDataType type, Faker faker, RandomSource random) {
+        return invalid(type, random);
+    }
+
+    private static Object invalid(InvalidDataType type, RandomGenerator random) {
         return switch (type) {
-            case TOO_SHORT -> faker.number().digits(5);
-            case TOO_LONG -> faker.number().digits(15);
+            case TOO_SHORT -> NumericIdentifiers.digits(random, 5);
+            case TOO_LONG -> NumericIdentifiers.digits(random, 15);
             default -> "0000000000";
         };
     }
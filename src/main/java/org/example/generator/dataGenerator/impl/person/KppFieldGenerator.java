@@ -3,9 +3,13 @@ package org.example.generator.dataGenerator.impl.person;
 import com.github.javafaker.Faker;
 import org.example.config.InvalidDataConfig;
 import org.example.config.InvalidDataType;
+import org.example.generator.RandomSource;
+import org.example.generator.dataGenerator.identifier.IdentifierFormat;
+import org.example.generator.dataGenerator.identifier.NumericIdentifiers;
 import org.example.generator.dataGenerator.repository.FieldGenerator;
 
 import java.lang.reflect.Field;
+import java.util.random.RandomGenerator;
 
 public class KppFieldGenerator implements FieldGenerator {
     public KppFieldGenerator() {
@@ -18,15 +22,29 @@ public class KppFieldGenerator implements FieldGenerator {
 
     @Override
     public Object generateValid(Field field, Faker faker, InvalidDataConfig cfg) {
+        return NumericIdentifiers.next(IdentifierFormat.KPP, faker.random()::nextLong);
+    }
+
+    @Override
+    public Object generateValid(Field field, Faker faker, InvalidDataConfig cfg, RandomSource random) {
         // КПП: 9 цифр
-        return faker.number().digits(9);
+        return NumericIdentifiers.next(IdentifierFormat.KPP, random);
     }
 
     @Override
     public Object generateInvalid(Field field, InvalidDataConfig cfg, InvalidDataType type, Faker faker) {
+        return invalid(type, faker.random()::nextLong);
+    }
+
+    @Override
+    public Object generateInvalid(Field field, InvalidDataConfig cfg, InvalidDataType type, Faker faker, RandomSource random) {
+        return invalid(type, random);
+    }
+
+    private static Object invalid(InvalidDataType type, RandomGenerator random) {
         return switch (type) {
-            case TOO_SHORT -> faker.number().digits(3);
-            case TOO_LONG -> faker.number().digits(12);
+            case TOO_SHORT -> NumericIdentifiers.digits(random, 3);
+            case TOO_LONG -> NumericIdentifiers.digits(random, 12);
             default -> "123456789";
         };
     }
@@ -3,15 +3,26 @@ package org.example.generator.dataGenerator.impl.person;
 import com.github.javafaker.Faker;
 import org.example.config.InvalidDataConfig;
 import org.example.config.InvalidDataType;
+import org.example.generator.RandomSource;
+import org.example.generator.dataGenerator.dictionary.DictionaryFaker;
+import org.example.generator.dataGenerator.dictionary.DictionaryTable;
+import org.example.generator.dataGenerator.regex.RegexSampler;
 import org.example.generator.dataGenerator.repository.FieldGenerator;
+import org.example.generator.dataGenerator.repository.ValueSink;
 
 import javax.validation.constraints.Pattern;
 import java.lang.reflect.Field;
+import java.util.random.RandomGenerator;
 
 public class NameFieldGenerator implements FieldGenerator {
     public NameFieldGenerator() {
     }
 
+    @Override
+    public boolean isDictionary() {
+        return true;
+    }
+
     @Override
     public boolean supports(Field field) {
         String name = field.getName().toLowerCase();
@@ -20,14 +31,63 @@ public class NameFieldGenerator implements FieldGenerator {
 
     @Override
     public Object generateValid(Field field, Faker faker, InvalidDataConfig cfg) {
+        String value = null;
         if (field.getName().toLowerCase().contains("firstname")) {
-            return faker.name().firstName();
+            value = faker.name().firstName();
+        } else if (field.getName().toLowerCase().contains("lastname")) {
+            value = faker.name().lastName();
         }
-        if (field.getName().toLowerCase().contains("lastname")) {
-            return faker.name().lastName();
+        return constrain(field, faker, cfg, value, faker.random()::nextLong);
+    }
+
+    @Override
+    public Object generateValid(Field field, Faker faker, InvalidDataConfig cfg, RandomSource random) {
+        DictionaryTable table = table(field, faker);
+        if (table == null) {
+            return generateValid(field, faker, cfg);
+        }
+        return constrain(field, faker, cfg, table.sample(random), random);
+    }
+
+    @Override
+    public void generateValidBatch(Field field, Faker faker, InvalidDataConfig cfg, RandomSource random, int n, ValueSink sink) {
+        DictionaryTable table = table(field, faker);
+        Pattern pattern = field.getAnnotation(Pattern.class);
+        if (table == null) {
+            FieldGenerator.super.generateValidBatch(field, faker, cfg, random, n, sink);
+            return;
+        }
+        // словарь и выражение разрешаются один раз на колонку
+        RegexSampler sampler = pattern == null ? null : RegexSampler.of(pattern.regexp());
+        for (int i = 0; i < n; i++) {
+            String value = table.sample(random);
+            if (sampler != null && !sampler.matches(value)) {
+                String sampled = sampler.sample(random, cfg.minLength(), cfg.maxLength());
+                if (sampled != null) value = sampled;
+            }
+            sink.accept(value);
+        }
+    }
+
+    private static DictionaryTable table(Field field, Faker faker) {
+        String name = field.getName().toLowerCase();
+        return name.contains("firstname") ? DictionaryFaker.table(faker, "name.first_name")
+                : name.contains("lastname") ? DictionaryFaker.table(faker, "name.last_name") : null;
+    }
+
+    // Имя из словаря оставляем, если оно подходит под @Pattern; иначе значение строится по самому выражению,
+    // а если выборка по нему не поддерживается — как раньше: имя из словаря или lorem
+    private static String constrain(Field field, Faker faker, InvalidDataConfig cfg, String value, RandomGenerator random) {
+        Pattern pattern = field.getAnnotation(Pattern.class);
+        if (pattern != null) {
+            RegexSampler sampler = RegexSampler.of(pattern.regexp());
+            if (value != null && sampler.matches(value)) {
+                return value;
+            }
+            String sampled = sampler.sample(random, cfg.minLength(), cfg.maxLength());
+            if (sampled != null) return sampled;
         }
-        // fallback to pattern or lorem
-        return faker.lorem().characters(cfg.minLength(), cfg.maxLength());
+        return value != null ? value : faker.lorem().characters(cfg.minLength(), cfg.maxLength());
     }
 
     @Override
@@ -3,6 +3,9 @@ package org.example.generator.dataGenerator.impl.person;
 import com.github.javafaker.Faker;
 import org.example.config.InvalidDataConfig;
 import org.example.config.InvalidDataType;
+import org.example.generator.RandomSource;
+import org.example.generator.dataGenerator.dictionary.DictionaryFaker;
+import org.example.generator.dataGenerator.dictionary.DictionaryTable;
 import org.example.generator.dataGenerator.repository.FieldGenerator;
 
 import java.lang.reflect.Field;
@@ -12,6 +15,11 @@ public class PatronymicFieldGenerator implements FieldGenerator {
     public PatronymicFieldGenerator() {
     }
 
+    @Override
+    public boolean isDictionary() {
+        return true;
+    }
+
     @Override
     public boolean supports(Field field) {
         String name = field.getName().toLowerCase();
@@ -23,6 +31,17 @@ public class PatronymicFieldGenerator implements FieldGenerator {
         return faker.name().nameWithMiddle().split(" ")[1];
     }
 
+    @Override
+    public Object generateValid(Field field, Faker faker, InvalidDataConfig cfg, RandomSource random) {
+        // если в локали есть отчества (ru), выбираем их напрямую из словаря
+        DictionaryTable male = DictionaryFaker.table(faker, "name.male_middle_name");
+        DictionaryTable female = DictionaryFaker.table(faker, "name.female_middle_name");
+        if (male == null || female == null) {
+            return generateValid(field, faker, cfg);
+        }
+        return (random.nextBoolean() ? male : female).sample(random);
+    }
+
     @Override
     public Object generateInvalid(Field field, InvalidDataConfig cfg, InvalidDataType type, Faker faker) {
         // Слишком короткое или слишком длинное отчество
@@ -0,0 +1,617 @@
+package org.example.generator.dataGenerator.regex;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.random.RandomGenerator;
+
+/**
+ * Регулярное выражение, скомпилированное в дерево выборки: последовательности, альтернативы,
+ * повторы и множества символов (отсортированные диапазоны с накопленными размерами).
+ * Разбор выполняется один раз на выражение ({@link #of} кэширует результат), выборка — только
+ * обращения к генератору случайных чисел и запись в {@link StringBuilder}.
+ * <p>
+ * Поддерживается: литералы, {@code .}, классы {@code [a-z]}, {@code [^...]}, {@code \d \w \s} и их отрицания,
+ * распространённые свойства {@code \p{L} \p{Lu} \p{Alpha} \p{IsCyrillic}...} (выборка из латиницы и кириллицы),
+ * группы {@code (...)}, {@code (?:...)}, {@code (?<name>...)}, флаги {@code (?i)}, {@code (?i:...)}, {@code |},
+ * квантификаторы {@code * + ? {n} {n,} {n,m}} (ленивые и сверхжадные формы равнозначны обычным),
+ * якоря {@code ^ $ \b}, {@code \Q...\E} и экранирования {@code \t \n \xhh \0ooo}.
+ * Отрицания берутся относительно печатного ASCII.
+ * <p>
+ * Выражение, корректное для {@link java.util.regex.Pattern}, но не поддерживаемое выборкой (обратные ссылки,
+ * lookaround, неизвестные свойства), не ломает генерацию: {@link #isSupported()} возвращает {@code false},
+ * а {@code sample} — {@code null}, и генератор берёт своё прежнее значение. Если дерево лишь приближает
+ * выражение (якоря в середине, {@code \b}), результат проверяется {@code Pattern} и при несовпадении
+ * выбирается заново; {@code null} — если за {@link #ATTEMPTS} попыток совпадения не нашлось.
+ */
+public final class RegexSampler {
+
+    /** Сколько повторов сверх минимума допускают {@code *}, {@code +} и {@code {n,}}. */
+    static final int UNBOUNDED_EXTRA = 8;
+    static final int ATTEMPTS = 32;
+
+    private static final ConcurrentHashMap<String, RegexSampler> CACHE = new ConcurrentHashMap<>();
+    private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(64));
+
+    private final String regex;
+    private final Node root;
+    /** Дерево может дать строку, не подходящую под выражение: каждую выборку нужно проверять. */
+    private final boolean approximate;
+    private final java.util.regex.Pattern pattern;
+
+    private RegexSampler(String regex) {
+        this.regex = regex;
+        this.pattern = java.util.regex.Pattern.compile(regex);
+        Parser parser = new Parser(regex);
+        Node parsed;
+        try {
+            parsed = parser.parse();
+        } catch (IllegalArgumentException unsupported) {
+            parsed = null;
+        }
+        this.root = parsed;
+        this.approximate = parser.approximate;
+    }
+
+    /**
+     * Скомпилированный сэмплер; повторные вызовы с тем же выражением возвращают тот же экземпляр.
+     * Бросает {@link java.util.regex.PatternSyntaxException} только для выражений, некорректных в Java.
+     */
+    public static RegexSampler of(String regex) {
+        RegexSampler cached = CACHE.get(regex);
+        return cached != null ? cached : CACHE.computeIfAbsent(regex, RegexSampler::new);
+    }
+
+    public String regex() {
+        return regex;
+    }
+
+    public boolean matches(CharSequence value) {
+        return value != null && pattern.matcher(value).matches();
+    }
+
+    /** Можно ли строить значения по выражению; иначе {@code sample} всегда возвращает {@code null}. */
+    public boolean isSupported() {
+        return root != null;
+    }
+
+    /** Значение, подходящее под выражение, или {@code null} (см. описание класса). */
+    public String sample(RandomGenerator random) {
+        return sample(random, 0, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Значение с длиной в {@code [minLength, maxLength]}, если выражение такое допускает;
+     * иначе последнее подходящее под выражение, а если такого не было — {@code null}.
+     */
+    public String sample(RandomGenerator random, int minLength, int maxLength) {
+        if (root == null) return null;
+        StringBuilder sb = BUFFER.get();
+        String matching = null;
+        for (int attempt = 0; attempt < ATTEMPTS; attempt++) {
+            sb.setLength(0);
+            root.sample(random, sb);
+            if (approximate && !pattern.matcher(sb).matches()) continue;
+            int length = sb.length();
+            if (length >= minLength && length <= maxLength) return sb.toString();
+            matching = sb.toString();
+        }
+        return matching;
+    }
+
+    @Override
+    public String toString() {
+        return regex;
+    }
+
+    abstract static class Node {
+        abstract void sample(RandomGenerator random, StringBuilder out);
+    }
+
+    static final class Literal extends Node {
+        private final String text;
+
+        Literal(String text) {
+            this.text = text;
+        }
+
+        @Override
+        void sample(RandomGenerator random, StringBuilder out) {
+            out.append(text);
+        }
+    }
+
+    /** Множество кодовых точек: пары границ {@code [lo, hi]} и накопленные размеры для выбора за O(log n). */
+    static final class CharSet extends Node {
+        private final int[] ranges;
+        private final int[] cumulative;
+
+        CharSet(int[] ranges) {
+            this.ranges = ranges;
+            this.cumulative = new int[ranges.length / 2];
+            int total = 0;
+            for (int i = 0; i < cumulative.length; i++) {
+                total += ranges[2 * i + 1] - ranges[2 * i] + 1;
+                cumulative[i] = total;
+            }
+        }
+
+        @Override
+        void sample(RandomGenerator random, StringBuilder out) {
+            if (cumulative.length == 1) {
+                out.appendCodePoint(ranges[0] + random.nextInt(cumulative[0]));
+                return;
+            }
+            int k = random.nextInt(cumulative[cumulative.length - 1]);
+            int i = Arrays.binarySearch(cumulative, k + 1);
+            if (i < 0) i = -i - 1;
+            int before = i == 0 ? 0 : cumulative[i - 1];
+            out.appendCodePoint(ranges[2 * i] + (k - before));
+        }
+    }
+
+    static final class Sequence extends Node {
+        private final Node[] parts;
+
+        Sequence(Node[] parts) {
+            this.parts = parts;
+        }
+
+        @Override
+        void sample(RandomGenerator random, StringBuilder out) {
+            for (Node part : parts) part.sample(random, out);
+        }
+    }
+
+    static final class Alternation extends Node {
+        private final Node[] options;
+
+        Alternation(Node[] options) {
+            this.options = options;
+        }
+
+        @Override
+        void sample(RandomGenerator random, StringBuilder out) {
+            options[random.nextInt(options.length)].sample(random, out);
+        }
+    }
+
+    static final class Repeat extends Node {
+        private final Node body;
+        private final int min;
+        private final int max;
+
+        Repeat(Node body, int min, int max) {
+            this.body = body;
+            this.min = min;
+            this.max = max;
+        }
+
+        @Override
+        void sample(RandomGenerator random, StringBuilder out) {
+            int count = min == max ? min : min + random.nextInt(max - min + 1);
+            for (int i = 0; i < count; i++) body.sample(random, out);
+        }
+    }
+
+    /** Рекурсивный спуск по тексту выражения. */
+    private static final class Parser {
+        private static final int PRINTABLE_LO = 0x20;
+        private static final int PRINTABLE_HI = 0x7E;
+        private static final int[] ANY = {PRINTABLE_LO, PRINTABLE_HI};
+        private static final int[] DIGIT = {'0', '9'};
+        private static final int[] WORD = {'0', '9', 'A', 'Z', '_', '_', 'a', 'z'};
+        private static final int[] SPACE = {'\t', '\r', ' ', ' '};
+        private static final int[] UPPER = {'A', 'Z'};
+        private static final int[] LOWER = {'a', 'z'};
+        private static final int[] ALPHA = {'A', 'Z', 'a', 'z'};
+        private static final int[] ALNUM = {'0', '9', 'A', 'Z', 'a', 'z'};
+        private static final int[] PUNCT = {'!', '/', ':', '@', '[', '`', '{', '~'};
+        private static final int[] XDIGIT = {'0', '9', 'A', 'F', 'a', 'f'};
+        private static final int[] CYRILLIC = {0x401, 0x401, 0x410, 0x44F, 0x451, 0x451};
+        private static final int[] LETTERS = {'A', 'Z', 'a', 'z', 0x401, 0x401, 0x410, 0x44F, 0x451, 0x451};
+        private static final int[] UPPER_LETTERS = {'A', 'Z', 0x401, 0x401, 0x410, 0x42F};
+        private static final int[] LOWER_LETTERS = {'a', 'z', 0x430, 0x44F, 0x451, 0x451};
+        private static final Node EMPTY = new Literal("");
+
+        private final String src;
+        private int pos;
+        /** Встретились конструкции, которые дерево выборки лишь приближает ({@code \b}, якоря не по краям). */
+        boolean approximate;
+
+        Parser(String src) {
+            this.src = src;
+        }
+
+        Node parse() {
+            Node node = alternation();
+            if (pos < src.length()) throw error("лишняя ')'");
+            return node;
+        }
+
+        private Node alternation() {
+            List<Node> options = new ArrayList<>();
+            options.add(sequence());
+            while (pos < src.length() && src.charAt(pos) == '|') {
+                pos++;
+                options.add(sequence());
+            }
+            return options.size() == 1 ? options.get(0) : new Alternation(options.toArray(Node[]::new));
+        }
+
+        private Node sequence() {
+            List<Node> parts = new ArrayList<>();
+            StringBuilder literal = new StringBuilder();
+            while (pos < src.length()) {
+                char c = src.charAt(pos);
+                if (c == '|' || c == ')') break;
+                Node atom = atom();
+                Node quantified = quantifier(atom);
+                if (quantified == atom && atom instanceof Literal lit) {
+                    literal.append(lit.text);
+                    continue;
+                }
+                if (literal.length() > 0) {
+                    parts.add(new Literal(literal.toString()));
+                    literal.setLength(0);
+                }
+                if (quantified != EMPTY) parts.add(quantified);
+            }
+            if (literal.length() > 0) parts.add(new Literal(literal.toString()));
+            if (parts.isEmpty()) return EMPTY;
+            return parts.size() == 1 ? parts.get(0) : new Sequence(parts.toArray(Node[]::new));
+        }
+
+        private Node atom() {
+            char c = src.charAt(pos++);
+            switch (c) {
+                case '(':
+                    return group();
+                case '[':
+                    return charSet(charClass());
+                case '.':
+                    return new CharSet(ANY);
+                case '^':
+                    if (pos != 1) approximate = true;
+                    return EMPTY;
+                case '$':
+                    if (pos != src.length()) approximate = true;
+                    return EMPTY;
+                case '\\':
+                    return escape();
+                case '*':
+                case '+':
+                case '?':
+                    throw error("квантификатор без выражения");
+                default:
+                    if (Character.isHighSurrogate(c) && pos < src.length()) {
+                        return new Literal(src.substring(pos - 1, ++pos));
+                    }
+                    return new Literal(String.valueOf(c));
+            }
+        }
+
+        private Node group() {
+            if (pos < src.length() && src.charAt(pos) == '?') {
+                char kind = pos + 1 < src.length() ? src.charAt(pos + 1) : 0;
+                if (kind == ':') {
+                    pos += 2;
+                } else if (isFlag(kind) || kind == '-') {
+                    // (?i) и (?i:...): флаги i, m, s, u, U, d на выборку не влияют, x меняет разбор
+                    int end = pos + 1;
+                    while (end < src.length() && (isFlag(src.charAt(end)) || src.charAt(end) == '-')) end++;
+                    if (end >= src.length()) throw error("незакрытая группа флагов");
+                    if (src.substring(pos + 1, end).indexOf('x') >= 0) throw error("флаг x не поддерживается");
+                    char close = src.charAt(end);
+                    pos = end + 1;
+                    if (close == ')') return EMPTY;
+                    if (close != ':') throw error("неверная группа флагов");
+                } else if (kind == '<' && pos + 2 < src.length() && src.charAt(pos + 2) != '=' && src.charAt(pos + 2) != '!') {
+                    int close = src.indexOf('>', pos);
+                    if (close < 0) throw error("незакрытое имя группы");
+                    pos = close + 1;
+                } else {
+                    throw error("lookaround не поддерживается");
+                }
+            }
+            Node body = alternation();
+            if (pos >= src.length() || src.charAt(pos) != ')') throw error("незакрытая группа");
+            pos++;
+            return body;
+        }
+
+        private static boolean isFlag(char c) {
+            return c == 'i' || c == 'm' || c == 's' || c == 'u' || c == 'U' || c == 'd' || c == 'x';
+        }
+
+        private Node escape() {
+            if (pos >= src.length()) throw error("'\\' в конце выражения");
+            char c = src.charAt(pos++);
+            switch (c) {
+                case 'b':
+                case 'B':
+                case 'A':
+                case 'z':
+                case 'Z':
+                    approximate = true;
+                    return EMPTY;
+                case 'p':
+                case 'P':
+                    return charSet(property(c == 'P'));
+                case 'Q': {
+                    int end = src.indexOf("\\E", pos);
+                    String quoted = end < 0 ? src.substring(pos) : src.substring(pos, end);
+                    pos = end < 0 ? src.length() : end + 2;
+                    return new Literal(quoted);
+                }
+                default:
+                    int[] predefined = predefined(c);
+                    if (predefined != null) return charSet(predefined);
+                    return new Literal(new String(Character.toChars(escapedChar(c))));
+            }
+        }
+
+        /** {@code \d \w \s} и отрицания; {@code null}, если это не предопределённый класс. */
+        private static int[] predefined(char c) {
+            return switch (c) {
+                case 'd' -> DIGIT;
+                case 'D' -> complement(DIGIT);
+                case 'w' -> WORD;
+                case 'W' -> complement(WORD);
+                case 's' -> SPACE;
+                case 'S' -> complement(SPACE);
+                default -> null;
+            };
+        }
+
+        /**
+         * {@code \p{Name}} / {@code \pL} после {@code \p}: подмножество символов свойства (латиница и кириллица
+         * для букв), так что выборка всегда подходит под выражение. Неизвестные свойства не поддерживаются.
+         */
+        private int[] property(boolean negate) {
+            if (pos >= src.length()) throw error("неполное свойство \\p");
+            String name;
+            if (src.charAt(pos) == '{') {
+                int close = src.indexOf('}', pos);
+                if (close < 0) throw error("незакрытое свойство \\p{");
+                name = src.substring(pos + 1, close);
+                pos = close + 1;
+            } else {
+                name = String.valueOf(src.charAt(pos++));
+            }
+            if (name.startsWith("^")) {
+                negate = !negate;
+                name = name.substring(1);
+            }
+            int[] set = switch (name) {
+                case "L", "IsL", "IsLetter", "IsAlphabetic", "Alphabetic", "javaLetter" -> LETTERS;
+                case "Lu", "IsLu", "IsUppercase", "javaUpperCase" -> UPPER_LETTERS;
+                case "Ll", "IsLl", "IsLowercase", "javaLowerCase" -> LOWER_LETTERS;
+                case "Alpha" -> ALPHA;
+                case "Upper" -> UPPER;
+                case "Lower" -> LOWER;
+                case "Digit", "Nd", "IsNd", "N", "IsN", "IsDigit", "javaDigit" -> DIGIT;
+                case "Alnum" -> ALNUM;
+                case "Punct" -> PUNCT;
+                case "XDigit" -> XDIGIT;
+                case "Space", "IsWhite_Space", "IsWhiteSpace", "javaWhitespace" -> SPACE;
+                case "Blank" -> new int[]{'\t', '\t', ' ', ' '};
+                case "ASCII", "Print", "InBasicLatin", "IsBasicLatin" -> ANY;
+                case "Graph" -> new int[]{'!', '~'};
+                case "IsLatin", "Latin" -> ALPHA;
+                case "IsCyrillic", "Cyrillic", "InCyrillic" -> CYRILLIC;
+                default -> throw error("свойство \\p{" + name + "} не поддерживается");
+            };
+            return negate ? complement(set) : set;
+        }
+
+        private int escapedChar(char c) {
+            switch (c) {
+                case 't': return '\t';
+                case 'n': return '\n';
+                case 'r': return '\r';
+                case 'f': return '\f';
+                case 'e': return 0x1B;
+                case 'x': return hex(2);
+                case 'u': return hex(4);
+                case '0': return octal();
+                default:
+                    if (c >= '1' && c <= '9') throw error("обратные ссылки не поддерживаются");
+                    if (Character.isLetter(c)) throw error("неизвестная escape-последовательность \\" + c);
+                    return c;
+            }
+        }
+
+        /** {@code \0n}, {@code \0nn}, {@code \0mnn} (m ≤ 3), как в {@link java.util.regex.Pattern}. */
+        private int octal() {
+            int first = octalDigit(pos);
+            if (first < 0) throw error("неверная восьмеричная последовательность");
+            int value = first;
+            pos++;
+            int second = octalDigit(pos);
+            if (second < 0) return value;
+            value = value * 8 + second;
+            pos++;
+            int third = octalDigit(pos);
+            if (third < 0 || first > 3) return value;
+            pos++;
+            return value * 8 + third;
+        }
+
+        private int octalDigit(int at) {
+            if (at >= src.length()) return -1;
+            char c = src.charAt(at);
+            return c >= '0' && c <= '7' ? c - '0' : -1;
+        }
+
+        private int hex(int digits) {
+            if (pos + digits > src.length()) throw error("неполная шестнадцатеричная последовательность");
+            int value = Integer.parseInt(src, pos, pos + digits, 16);
+            pos += digits;
+            return value;
+        }
+
+        /** Содержимое {@code [...]} после открывающей скобки: нормализованные диапазоны. */
+        private int[] charClass() {
+            boolean negate = pos < src.length() && src.charAt(pos) == '^';
+            if (negate) pos++;
+            List<int[]> sets = new ArrayList<>();
+            List<Integer> bounds = new ArrayList<>();
+            boolean first = true;
+            while (true) {
+                if (pos >= src.length()) throw error("незакрытый класс символов");
+                char c = src.charAt(pos);
+                if (c == ']' && !first) {
+                    pos++;
+                    break;
+                }
+                first = false;
+                if (c == '[') {
+                    pos++;
+                    sets.add(charClass());
+                    continue;
+                }
+                if (c == '&' && pos + 1 < src.length() && src.charAt(pos + 1) == '&') {
+                    throw error("пересечение классов не поддерживается");
+                }
+                int lo;
+                if (c == '\\') {
+                    pos++;
+                    if (pos >= src.length()) throw error("'\\' в конце выражения");
+                    char escaped = src.charAt(pos);
+                    if (escaped == 'p' || escaped == 'P') {
+                        pos++;
+                        sets.add(property(escaped == 'P'));
+                        continue;
+                    }
+                    int[] predefined = predefined(escaped);
+                    if (predefined != null) {
+                        pos++;
+                        sets.add(predefined);
+                        continue;
+                    }
+                    lo = escapedChar(src.charAt(pos++));
+                } else {
+                    lo = src.codePointAt(pos);
+                    pos += Character.charCount(lo);
+                }
+                int hi = lo;
+                if (pos + 1 < src.length() && src.charAt(pos) == '-' && src.charAt(pos + 1) != ']') {
+                    pos++;
+                    char h = src.charAt(pos);
+                    if (h == '\\') {
+                        pos++;
+                        if (pos >= src.length()) throw error("'\\' в конце выражения");
+                        hi = escapedChar(src.charAt(pos++));
+                    } else {
+                        hi = src.codePointAt(pos);
+                        pos += Character.charCount(hi);
+                    }
+                    if (hi < lo) throw error("неверный диапазон");
+                }
+                bounds.add(lo);
+                bounds.add(hi);
+            }
+            int[] own = new int[bounds.size()];
+            for (int i = 0; i < own.length; i++) own[i] = bounds.get(i);
+            sets.add(own);
+            int[] union = normalize(sets);
+            return negate ? complement(union) : union;
+        }
+
+        private CharSet charSet(int[] ranges) {
+            if (ranges.length == 0) throw error("пустой класс символов");
+            return new CharSet(ranges);
+        }
+
+        private Node quantifier(Node atom) {
+            if (pos >= src.length()) return atom;
+            int min;
+            int max;
+            char c = src.charAt(pos);
+            if (c == '*') {
+                min = 0;
+                max = UNBOUNDED_EXTRA;
+                pos++;
+            } else if (c == '+') {
+                min = 1;
+                max = 1 + UNBOUNDED_EXTRA;
+                pos++;
+            } else if (c == '?') {
+                min = 0;
+                max = 1;
+                pos++;
+            } else if (c == '{') {
+                int close = src.indexOf('}', pos);
+                if (close < 0) throw error("незакрытый квантификатор");
+                String body = src.substring(pos + 1, close);
+                int comma = body.indexOf(',');
+                try {
+                    if (comma < 0) {
+                        min = max = Integer.parseInt(body);
+                    } else {
+                        min = Integer.parseInt(body.substring(0, comma));
+                        max = comma == body.length() - 1 ? min + UNBOUNDED_EXTRA : Integer.parseInt(body.substring(comma + 1));
+                    }
+                } catch (NumberFormatException e) {
+                    throw error("неверный квантификатор {" + body + "}");
+                }
+                if (min < 0 || max < min) throw error("неверный квантификатор {" + body + "}");
+                pos = close + 1;
+            } else {
+                return atom;
+            }
+            // ленивые и сверхжадные формы на выборку не влияют
+            if (pos < src.length() && (src.charAt(pos) == '?' || src.charAt(pos) == '+')) pos++;
+            if (atom == EMPTY || max == 0) return EMPTY;
+            return min == 1 && max == 1 ? atom : new Repeat(atom, min, max);
+        }
+
+        private IllegalArgumentException error(String message) {
+            return new IllegalArgumentException("Регулярное выражение \"" + src + "\" (позиция " + pos + "): " + message);
+        }
+
+        /** Объединение диапазонов: сортировка по нижней границе и склейка пересекающихся/соседних. */
+        private static int[] normalize(List<int[]> sets) {
+            List<int[]> pairs = new ArrayList<>();
+            for (int[] set : sets) {
+                for (int i = 0; i < set.length; i += 2) pairs.add(new int[]{set[i], set[i + 1]});
+            }
+            pairs.sort((a, b) -> Integer.compare(a[0], b[0]));
+            int[] out = new int[pairs.size() * 2];
+            int n = 0;
+            for (int[] p : pairs) {
+                if (n > 0 && p[0] <= out[n - 1] + 1) {
+                    out[n - 1] = Math.max(out[n - 1], p[1]);
+                } else {
+                    out[n++] = p[0];
+                    out[n++] = p[1];
+                }
+            }
+            return Arrays.copyOf(out, n);
+        }
+
+        /** Дополнение до печатного ASCII. */
+        private static int[] complement(int[] ranges) {
+            int[] out = new int[ranges.length + 2];
+            int n = 0;
+            int next = PRINTABLE_LO;
+            for (int i = 0; i < ranges.length; i += 2) {
+                int lo = Math.max(ranges[i], PRINTABLE_LO);
+                int hi = Math.min(ranges[i + 1], PRINTABLE_HI);
+                if (lo > hi) continue;
+                if (lo > next) {
+                    out[n++] = next;
+                    out[n++] = lo - 1;
+                }
+                next = Math.max(next, hi + 1);
+            }
+            if (next <= PRINTABLE_HI) {
+                out[n++] = next;
+                out[n++] = PRINTABLE_HI;
+            }
+            return Arrays.copyOf(out, n);
+        }
+    }
+}
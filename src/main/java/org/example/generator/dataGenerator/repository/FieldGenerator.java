@@ -3,6 +3,7 @@ package org.example.generator.dataGenerator.repository;
 import com.github.javafaker.Faker;
 import org.example.config.InvalidDataConfig;
 import org.example.config.InvalidDataType;
+import org.example.generator.RandomSource;
 
 import java.lang.reflect.Field;
 
@@ -24,4 +25,59 @@ public interface FieldGenerator {
      * Generate an invalid value for the field with specified invalid type.
      */
     Object generateInvalid(Field field, InvalidDataConfig cfg, InvalidDataType type, Faker faker);
+
+    /**
+     * Generate a valid value using the per-thread random source of the current record.
+     * Override this instead of the Faker-only variant when the generator needs its own random numbers;
+     * the default delegates to {@link #generateValid(Field, Faker, InvalidDataConfig)}.
+     */
+    default Object generateValid(Field field, Faker faker, InvalidDataConfig cfg, RandomSource random) {
+        return generateValid(field, faker, cfg);
+    }
+
+    /**
+     * Generate an invalid value using the per-thread random source of the current record.
+     * The default delegates to {@link #generateInvalid(Field, InvalidDataConfig, InvalidDataType, Faker)}.
+     */
+    default Object generateInvalid(Field field, InvalidDataConfig cfg, InvalidDataType type, Faker faker, RandomSource random) {
+        return generateInvalid(field, cfg, type, faker);
+    }
+
+    /**
+     * Generate {@code n} valid values for the same field into {@code sink}, in order.
+     * Override to resolve dictionaries, bounds and formats once per column instead of once per value
+     * and to emit primitives; the default calls {@link #generateValid(Field, Faker, InvalidDataConfig, RandomSource)} n times.
+     */
+    default void generateValidBatch(Field field, Faker faker, InvalidDataConfig cfg, RandomSource random, int n, ValueSink sink) {
+        for (int i = 0; i < n; i++) {
+            sink.accept(generateValid(field, faker, cfg, random));
+        }
+    }
+
+    /**
+     * Generate {@code n} invalid values of the given type into {@code sink}, in order.
+     * The default calls {@link #generateInvalid(Field, InvalidDataConfig, InvalidDataType, Faker, RandomSource)} n times.
+     */
+    default void generateInvalidBatch(Field field, InvalidDataConfig cfg, InvalidDataType type, Faker faker,
+                                      RandomSource random, int n, ValueSink sink) {
+        for (int i = 0; i < n; i++) {
+            sink.accept(generateInvalid(field, cfg, type, faker, random));
+        }
+    }
+
+    /**
+     * Whether valid values come from a finite dictionary (names, cities, streets) and repeat heavily.
+     * In flyweight mode such String values are canonicalized so equal values share one instance.
+     */
+    default boolean isDictionary() {
+        return false;
+    }
+
+    /**
+     * Priority used when several generators support the same field: higher wins.
+     * Generators with equal priority keep their META-INF/services order.
+     */
+    default int priority() {
+        return 0;
+    }
 }
\ No newline at end of file
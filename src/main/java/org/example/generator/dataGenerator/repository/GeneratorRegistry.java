@@ -0,0 +1,130 @@
+package org.example.generator.dataGenerator.repository;
+
+import org.example.ConfigurableGenerator;
+import org.example.generator.GeneratorConfig;
+import org.example.generator.dataGenerator.impl.DefaultFieldGenerator;
+import org.example.generator.jfr.SpiDiscoveryEvent;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Реестр генераторов полей.
+ * SPI сканируется один раз на JVM, победивший генератор для каждого {@link Field} вычисляется один раз
+ * и запоминается. Порядок выбора — по {@link FieldGenerator#priority()} (больше — раньше),
+ * при равном приоритете — по порядку в файле META-INF/services.
+ */
+public final class GeneratorRegistry {
+
+    private static final class Holder {
+        static final GeneratorRegistry INSTANCE = new GeneratorRegistry(ServiceLoader.load(FieldGenerator.class));
+    }
+
+    private final List<ServiceLoader.Provider<FieldGenerator>> providers;
+    private final FieldGenerator[] prototypes;
+    private final Map<Field, Integer> resolved = new ConcurrentHashMap<>();
+    private final Map<GeneratorConfig, Generators> configured = new ConcurrentHashMap<>();
+
+    GeneratorRegistry(ServiceLoader<FieldGenerator> loader) {
+        SpiDiscoveryEvent event = new SpiDiscoveryEvent();
+        event.begin();
+        record Candidate(ServiceLoader.Provider<FieldGenerator> provider, FieldGenerator prototype) {
+        }
+        List<Candidate> candidates = new ArrayList<>();
+        Candidate fallback = null;
+        Iterable<ServiceLoader.Provider<FieldGenerator>> discovered = loader.stream()::iterator;
+        for (ServiceLoader.Provider<FieldGenerator> provider : discovered) {
+            Candidate candidate = new Candidate(provider, provider.get());
+            if (fallback == null && candidate.prototype() instanceof DefaultFieldGenerator) {
+                fallback = candidate;
+            } else {
+                candidates.add(candidate);
+            }
+        }
+        // сортировка стабильная: при равном приоритете сохраняется порядок SPI
+        candidates.sort(Comparator.comparingInt((Candidate c) -> c.prototype().priority()).reversed());
+        // запасной генератор всегда последний; из SPI, а если его там нет — собственный экземпляр
+        if (fallback != null) candidates.add(fallback);
+        this.providers = new ArrayList<>(candidates.size());
+        this.prototypes = new FieldGenerator[candidates.size() + (fallback == null ? 1 : 0)];
+        for (int i = 0; i < candidates.size(); i++) {
+            providers.add(candidates.get(i).provider());
+            prototypes[i] = candidates.get(i).prototype();
+        }
+        if (fallback == null) prototypes[candidates.size()] = new DefaultFieldGenerator();
+        if (event.shouldCommit()) {
+            event.generatorCount = prototypes.length;
+            event.generators = Arrays.stream(prototypes).map(g -> g.getClass().getSimpleName())
+                    .collect(Collectors.joining(", "));
+            event.commit();
+        }
+    }
+
+    public static GeneratorRegistry getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    /** Классы генераторов в порядке выбора, последним — запасной; для отпечатка версий генераторов. */
+    public List<Class<? extends FieldGenerator>> generatorTypes() {
+        List<Class<? extends FieldGenerator>> types = new ArrayList<>(prototypes.length);
+        for (FieldGenerator prototype : prototypes) types.add(prototype.getClass());
+        return types;
+    }
+
+    /** Индекс генератора, который обслуживает поле; вычисляется один раз на поле. */
+    public int resolve(Field field) {
+        return resolved.computeIfAbsent(field, this::findIndex);
+    }
+
+    private int findIndex(Field field) {
+        for (int i = 0; i < prototypes.length - 1; i++) {
+            if (prototypes[i].supports(field)) return i;
+        }
+        return prototypes.length - 1;
+    }
+
+    /**
+     * Набор генераторов для конфигурации билдера.
+     * Генераторы без {@link ConfigurableGenerator} общие для всех конфигураций,
+     * настраиваемые создаются по одному экземпляру на конфигурацию.
+     */
+    public Generators configure(GeneratorConfig config) {
+        return configured.computeIfAbsent(config.copy(), cfg -> {
+            FieldGenerator[] instances = prototypes.clone();
+            for (int i = 0; i < providers.size(); i++) {
+                if (instances[i] instanceof ConfigurableGenerator) {
+                    FieldGenerator fresh = providers.get(i).get();
+                    ((ConfigurableGenerator) fresh).configure(cfg);
+                    instances[i] = fresh;
+                }
+            }
+            return new Generators(this, instances);
+        });
+    }
+
+    /** Сконфигурированные генераторы, индексируемые так же, как {@link #resolve(Field)}. */
+    public static final class Generators {
+        private final GeneratorRegistry registry;
+        private final FieldGenerator[] instances;
+
+        private Generators(GeneratorRegistry registry, FieldGenerator[] instances) {
+            this.registry = registry;
+            this.instances = instances;
+        }
+
+        public FieldGenerator get(int index) {
+            return instances[index];
+        }
+
+        public FieldGenerator forField(Field field) {
+            return instances[registry.resolve(field)];
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package org.example.generator.dataGenerator.repository;
+
+/**
+ * Receiver of a column of generated values, see {@link FieldGenerator#generateValidBatch}.
+ * Primitive methods let a generator hand over int/long/double values without boxing when the sink
+ * stores primitives; by default they box and delegate to {@link #accept(Object)}.
+ */
+@FunctionalInterface
+public interface ValueSink {
+
+    void accept(Object value);
+
+    default void acceptInt(int value) {
+        accept(value);
+    }
+
+    default void acceptLong(long value) {
+        accept(value);
+    }
+
+    default void acceptDouble(double value) {
+        accept(value);
+    }
+}
@@ -0,0 +1,136 @@
+package org.example.generator.dataset;
+
+import java.util.Arrays;
+
+/** Растущий буфер одной записи датасета; переиспользуется между записями. */
+final class ByteArrayOut {
+
+    private byte[] buf = new byte[1024];
+    private int size;
+
+    int size() {
+        return size;
+    }
+
+    byte[] array() {
+        return buf;
+    }
+
+    void reset() {
+        size = 0;
+    }
+
+    private void ensure(int extra) {
+        if (size + extra > buf.length) buf = Arrays.copyOf(buf, Math.max(buf.length * 2, size + extra));
+    }
+
+    void put(byte b) {
+        ensure(1);
+        buf[size++] = b;
+    }
+
+    void put(byte[] bytes, int off, int len) {
+        ensure(len);
+        System.arraycopy(bytes, off, buf, size, len);
+        size += len;
+    }
+
+    void putInt(int v) {
+        ensure(4);
+        buf[size++] = (byte) (v >>> 24);
+        buf[size++] = (byte) (v >>> 16);
+        buf[size++] = (byte) (v >>> 8);
+        buf[size++] = (byte) v;
+    }
+
+    void putLong(long v) {
+        putInt((int) (v >>> 32));
+        putInt((int) v);
+    }
+
+    /** Беззнаковый LEB128. */
+    void putVarLong(long v) {
+        ensure(10);
+        while ((v & ~0x7FL) != 0) {
+            buf[size++] = (byte) ((v & 0x7F) | 0x80);
+            v >>>= 7;
+        }
+        buf[size++] = (byte) v;
+    }
+
+    static int varLongSize(long v) {
+        int n = 1;
+        while ((v & ~0x7FL) != 0) {
+            n++;
+            v >>>= 7;
+        }
+        return n;
+    }
+
+    static long zigZag(long v) {
+        return (v << 1) ^ (v >> 63);
+    }
+
+    /** Записывает varint длины {@code size - start} в зарезервированный байт {@code at}, сдвигая данные при необходимости. */
+    void patchLength(int at, int start) {
+        int length = size - start;
+        int n = varLongSize(length);
+        if (n > 1) {
+            ensure(n - 1);
+            System.arraycopy(buf, start, buf, start + n - 1, length);
+            size += n - 1;
+        }
+        int p = at;
+        long v = length;
+        while ((v & ~0x7FL) != 0) {
+            buf[p++] = (byte) ((v & 0x7F) | 0x80);
+            v >>>= 7;
+        }
+        buf[p] = (byte) v;
+    }
+
+    /** Длина строки в UTF-8 без кодирования. */
+    static int utf8Length(CharSequence s) {
+        int n = 0;
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c < 0x80) n++;
+            else if (c < 0x800) n += 2;
+            else if (Character.isHighSurrogate(c) && i + 1 < s.length() && Character.isLowSurrogate(s.charAt(i + 1))) {
+                n += 4;
+                i++;
+            } else n += 3;
+        }
+        return n;
+    }
+
+    /** UTF-8 без промежуточного {@code byte[]}; одиночный суррогат заменяется на U+FFFD. */
+    void putUtf8(CharSequence s) {
+        ensure(s.length() * 3);
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c < 0x80) {
+                buf[size++] = (byte) c;
+            } else if (c < 0x800) {
+                buf[size++] = (byte) (0xC0 | (c >> 6));
+                buf[size++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                if (Character.isHighSurrogate(c) && i + 1 < s.length() && Character.isLowSurrogate(s.charAt(i + 1))) {
+                    int cp = Character.toCodePoint(c, s.charAt(++i));
+                    buf[size++] = (byte) (0xF0 | (cp >> 18));
+                    buf[size++] = (byte) (0x80 | ((cp >> 12) & 0x3F));
+                    buf[size++] = (byte) (0x80 | ((cp >> 6) & 0x3F));
+                    buf[size++] = (byte) (0x80 | (cp & 0x3F));
+                } else {
+                    buf[size++] = (byte) 0xEF;
+                    buf[size++] = (byte) 0xBF;
+                    buf[size++] = (byte) 0xBD;
+                }
+            } else {
+                buf[size++] = (byte) (0xE0 | (c >> 12));
+                buf[size++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                buf[size++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+    }
+}
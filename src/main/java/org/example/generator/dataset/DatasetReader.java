@@ -0,0 +1,145 @@
+package org.example.generator.dataset;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Читает датасет {@link DatasetWriter} через отображение файла в память. Запись по индексу находится
+ * за O(1) — одно чтение из индекса, — а поля декодируются лениво, только при обращении ({@link RecordView}).
+ * <p>
+ * Файл отображается окнами по 1 ГБ, перекрывающимися на максимальный размер записи, поэтому любая запись
+ * целиком лежит в одном окне и файлы больше 2 ГБ читаются без копирования. Размер окна можно уменьшить
+ * свойством {@code -Dtestdata.dataset.segmentBits} (по умолчанию 30). Читатель потокобезопасен, {@link RecordView} — нет.
+ */
+public class DatasetReader implements AutoCloseable {
+
+    private final FileChannel channel;
+    private final long fileSize;
+    private final int segmentBits;
+    private final long segmentMask;
+    private final long maxSpan;
+    private final AtomicReferenceArray<MappedByteBuffer> segments;
+    final DatasetSchema schema;
+    private final long count;
+    private final long indexOffset;
+    private final long stringOffsets;
+    private final int stringCount;
+    private final AtomicReferenceArray<String> strings;
+
+    private DatasetReader(FileChannel channel) throws IOException {
+        this.channel = channel;
+        this.fileSize = channel.size();
+        if (fileSize < Long.BYTES + DatasetWriter.FOOTER_SIZE) throw new IOException("Файл слишком мал для датасета");
+        ByteBuffer footer = ByteBuffer.allocate(DatasetWriter.FOOTER_SIZE);
+        channel.read(footer, fileSize - DatasetWriter.FOOTER_SIZE);
+        if (footer.getLong(40) != DatasetWriter.MAGIC) {
+            throw new IOException("Не датасет или файл не дописан (нет футера)");
+        }
+        this.count = footer.getLong(0);
+        this.indexOffset = footer.getLong(8);
+        this.stringOffsets = footer.getLong(16);
+        this.stringCount = Math.toIntExact(footer.getLong(24));
+        this.maxSpan = footer.getLong(32);
+        this.segmentBits = Integer.getInteger("testdata.dataset.segmentBits", 30);
+        this.segmentMask = (1L << segmentBits) - 1;
+        if ((1L << segmentBits) + maxSpan > Integer.MAX_VALUE) {
+            throw new IOException("Запись в " + maxSpan + " байт не помещается в окно отображения");
+        }
+        this.segments = new AtomicReferenceArray<>((int) ((fileSize >>> segmentBits) + 1));
+        this.strings = new AtomicReferenceArray<>(stringCount);
+
+        ByteBuffer head = ByteBuffer.allocate(Long.BYTES + Integer.BYTES);
+        channel.read(head, 0);
+        if (head.getLong(0) != DatasetWriter.MAGIC) throw new IOException("Не датасет: неверная сигнатура");
+        ByteBuffer schemaBytes = ByteBuffer.allocate(head.getInt(Long.BYTES));
+        channel.read(schemaBytes, Long.BYTES + Integer.BYTES);
+        this.schema = DatasetSchema.read(schemaBytes, 0);
+    }
+
+    public static DatasetReader open(Path file) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            return new DatasetReader(channel);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    public long size() {
+        return count;
+    }
+
+    /** Имя корневого класса, из которого записан датасет. */
+    public String type() {
+        return schema.root().name;
+    }
+
+    /** Запись по индексу без разбора предыдущих записей и без декодирования полей. */
+    public RecordView get(long index) {
+        if (index < 0 || index >= count) throw new IndexOutOfBoundsException("Запись " + index + " из " + count);
+        long offset = readLong(indexOffset + index * Long.BYTES);
+        return new RecordView(this, schema.root(), segment(offset), (int) (offset & segmentMask));
+    }
+
+    /** Запись по индексу, собранная в объект {@code type} (тот же класс, что при записи). */
+    public <T> T read(long index, Class<T> type) {
+        return get(index).materialize(type);
+    }
+
+    /** Окно, в котором целиком лежат {@code maxSpan} байт начиная с {@code position}. */
+    ByteBuffer segment(long position) {
+        int i = (int) (position >>> segmentBits);
+        MappedByteBuffer mapped = segments.get(i);
+        if (mapped == null) {
+            long start = (long) i << segmentBits;
+            long size = Math.min((1L << segmentBits) + maxSpan, fileSize - start);
+            try {
+                mapped = channel.map(FileChannel.MapMode.READ_ONLY, start, size);
+            } catch (IOException e) {
+                throw new IllegalStateException("Не удалось отобразить датасет в память", e);
+            }
+            if (!segments.compareAndSet(i, null, mapped)) mapped = segments.get(i);
+        }
+        return mapped;
+    }
+
+    private long readLong(long position) {
+        return segment(position).getLong((int) (position & segmentMask));
+    }
+
+    /** Строка из таблицы строк; декодируется один раз. */
+    String string(int id) {
+        String s = strings.get(id);
+        if (s == null) {
+            long position = readLong(stringOffsets + (long) id * Long.BYTES);
+            ByteBuffer buf = segment(position);
+            int p = (int) (position & segmentMask);
+            long length = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = buf.get(p++);
+                length |= (long) (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            byte[] bytes = new byte[(int) length];
+            buf.get(p, bytes);
+            s = new String(bytes, StandardCharsets.UTF_8);
+            strings.set(id, s);
+        }
+        return s;
+    }
+
+    /** Отображения освобождаются сборщиком мусора; после закрытия {@link RecordView} читать нельзя. */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
@@ -0,0 +1,196 @@
+package org.example.generator.dataset;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Схема датасета: классы графа DTO (корень — класс 0) и их поля в порядке записи.
+ * Поле — скаляр (тип значения определяется тегом), вложенный объект или список.
+ * Объектом считается любой непримитивный тип вне {@code java.*}, кроме enum.
+ */
+final class DatasetSchema {
+
+    // теги значений; у каждого значения формат [тег][varint длины][данные]
+    static final byte NULL = 0;
+    static final byte INT = 1;
+    static final byte LONG = 2;
+    static final byte DOUBLE = 3;
+    static final byte BOOLEAN = 4;
+    static final byte STRING = 5;
+    static final byte STRING_REF = 6;
+    static final byte DECIMAL = 7;
+    static final byte DATE = 8;
+    static final byte DATETIME = 9;
+    static final byte OBJECT = 10;
+    static final byte LIST = 11;
+
+    // вид поля в схеме
+    static final byte SCALAR = 0;
+    static final byte NESTED = 1;
+    static final byte SEQUENCE = 2;
+
+    private static final MethodType GETTER = MethodType.methodType(Object.class, Object.class);
+
+    final List<ClassSchema> classes;
+
+    private DatasetSchema(List<ClassSchema> classes) {
+        this.classes = classes;
+    }
+
+    ClassSchema root() {
+        return classes.get(0);
+    }
+
+    /** Схема для записи: обходит граф классов, начиная с {@code root}, и готовит геттеры. */
+    static DatasetSchema of(Class<?> root) {
+        List<ClassSchema> classes = new ArrayList<>();
+        register(root, classes, new IdentityHashMap<>());
+        return new DatasetSchema(classes);
+    }
+
+    private static int register(Class<?> type, List<ClassSchema> classes, Map<Class<?>, Integer> ids) {
+        Integer known = ids.get(type);
+        if (known != null) return known;
+        int id = classes.size();
+        ids.put(type, id);
+        ClassSchema cls = new ClassSchema(id, type.getName());
+        classes.add(cls);
+        List<FieldSchema> fields = new ArrayList<>();
+        for (Field field : type.getDeclaredFields()) {
+            if (Modifier.isStatic(field.getModifiers())) continue;
+            MethodHandle getter = getter(field);
+            if (List.class.isAssignableFrom(field.getType())) {
+                Class<?> elem = elementType(field);
+                int elemId = isObject(elem) ? register(elem, classes, ids) : -1;
+                fields.add(new FieldSchema(field.getName(), SEQUENCE, elemId, getter));
+            } else if (isObject(field.getType())) {
+                fields.add(new FieldSchema(field.getName(), NESTED, register(field.getType(), classes, ids), getter));
+            } else {
+                fields.add(new FieldSchema(field.getName(), SCALAR, -1, getter));
+            }
+        }
+        cls.setFields(fields);
+        return id;
+    }
+
+    static boolean isObject(Class<?> type) {
+        return !type.isPrimitive() && !type.isEnum() && !type.isArray() && !type.getName().startsWith("java.");
+    }
+
+    private static Class<?> elementType(Field field) {
+        if (field.getGenericType() instanceof ParameterizedType pt && pt.getActualTypeArguments()[0] instanceof Class<?> c) {
+            return c;
+        }
+        return Object.class;
+    }
+
+    private static MethodHandle getter(Field field) {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(field.getDeclaringClass(), MethodHandles.lookup());
+            return lookup.unreflectGetter(field).asType(GETTER);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Нет доступа к полю " + field, e);
+        }
+    }
+
+    /** {@code [int классов] ([строка имени][int полей] ([строка поля][byte вид][int класс])*)*}. */
+    void write(ByteArrayOut out) {
+        out.putInt(classes.size());
+        for (ClassSchema cls : classes) {
+            putString(out, cls.name);
+            out.putInt(cls.fields.length);
+            for (FieldSchema field : cls.fields) {
+                putString(out, field.name);
+                out.put(field.kind);
+                out.putInt(field.classId);
+            }
+        }
+    }
+
+    static DatasetSchema read(ByteBuffer in, int offset) {
+        int[] pos = {offset};
+        int count = in.getInt(pos[0]);
+        pos[0] += 4;
+        List<ClassSchema> classes = new ArrayList<>(count);
+        for (int c = 0; c < count; c++) {
+            ClassSchema cls = new ClassSchema(c, getString(in, pos));
+            int fieldCount = in.getInt(pos[0]);
+            pos[0] += 4;
+            List<FieldSchema> fields = new ArrayList<>(fieldCount);
+            for (int f = 0; f < fieldCount; f++) {
+                String name = getString(in, pos);
+                byte kind = in.get(pos[0]);
+                int classId = in.getInt(pos[0] + 1);
+                pos[0] += 5;
+                fields.add(new FieldSchema(name, kind, classId, null));
+            }
+            cls.setFields(fields);
+            classes.add(cls);
+        }
+        return new DatasetSchema(classes);
+    }
+
+    private static void putString(ByteArrayOut out, String s) {
+        byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+        out.putInt(bytes.length);
+        out.put(bytes, 0, bytes.length);
+    }
+
+    private static String getString(ByteBuffer in, int[] pos) {
+        int length = in.getInt(pos[0]);
+        byte[] bytes = new byte[length];
+        in.get(pos[0] + 4, bytes);
+        pos[0] += 4 + length;
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    static final class ClassSchema {
+        final int id;
+        final String name;
+        FieldSchema[] fields;
+        private final Map<String, Integer> index = new HashMap<>();
+
+        ClassSchema(int id, String name) {
+            this.id = id;
+            this.name = name;
+        }
+
+        private void setFields(List<FieldSchema> fields) {
+            this.fields = fields.toArray(FieldSchema[]::new);
+            for (int i = 0; i < this.fields.length; i++) index.put(this.fields[i].name, i);
+        }
+
+        /** Номер поля по имени или -1. */
+        int indexOf(String field) {
+            Integer i = index.get(field);
+            return i == null ? -1 : i;
+        }
+    }
+
+    static final class FieldSchema {
+        final String name;
+        final byte kind;
+        /** Класс вложенного объекта или элементов списка; -1 — скаляр. */
+        final int classId;
+        /** Только у схемы записи. */
+        final MethodHandle getter;
+
+        FieldSchema(String name, byte kind, int classId, MethodHandle getter) {
+            this.name = name;
+            this.kind = kind;
+            this.classId = classId;
+            this.getter = getter;
+        }
+    }
+}
@@ -0,0 +1,298 @@
+package org.example.generator.dataset;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Пишет записи одного класса в компактный бинарный датасет; читается {@link DatasetReader}.
+ * <pre>
+ * [magic 8][int длины схемы][схема]
+ * [записи: поля подряд, каждое — [тег][varint длины][данные]; объект — поля вложенного класса, список — [varint n][значения]]
+ * [таблица строк: ([varint длины][UTF-8])*][long-смещения строк]
+ * [индекс: long-смещение каждой записи]
+ * [футер: записей, смещение индекса, смещение смещений строк, строк, максимальный размер записи, magic]
+ * </pre>
+ * Повторяющиеся строки пишутся ссылкой в таблицу строк. Таблица ограничена {@link #MAX_STRINGS}; строки поля
+ * перестают попадать в неё, если после первых {@link #ADMISSION_SAMPLE} значений меньше половины из них повторы.
+ * Индекс копится во временном файле рядом с датасетом, поэтому память не растёт с числом записей.
+ */
+public class DatasetWriter implements AutoCloseable {
+
+    static final long MAGIC = 0x5444474441544131L; // "TDGDATA1"
+    static final int FOOTER_SIZE = 6 * Long.BYTES;
+    static final int MAX_STRINGS = 1 << 16;
+    static final int MAX_DICTIONARY_LENGTH = 256;
+    static final int ADMISSION_SAMPLE = 1024;
+    private static final int IO_BUFFER = 1 << 17;
+
+    private final DatasetSchema schema;
+    private final FileChannel channel;
+    private final ByteBuffer io = ByteBuffer.allocateDirect(IO_BUFFER);
+    private final FileChannel index;
+    private final ByteBuffer indexBuffer = ByteBuffer.allocateDirect(IO_BUFFER);
+    private final ByteArrayOut record = new ByteArrayOut();
+
+    private final Map<String, Integer> strings = new HashMap<>();
+    private final List<String> stringList = new ArrayList<>();
+    /** Счётчики приёма в таблицу строк по полю: [класс][поле]. */
+    private final long[][] seen;
+    private final long[][] hits;
+
+    private long position;
+    private long count;
+    private long maxSpan = Long.BYTES;
+    private boolean closed;
+
+    public DatasetWriter(Path file, Class<?> type) throws IOException {
+        this.schema = DatasetSchema.of(type);
+        this.seen = new long[schema.classes.size()][];
+        this.hits = new long[schema.classes.size()][];
+        for (DatasetSchema.ClassSchema cls : schema.classes) {
+            seen[cls.id] = new long[cls.fields.length];
+            hits[cls.id] = new long[cls.fields.length];
+        }
+        Path parent = file.toAbsolutePath().getParent();
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        Path indexFile = Files.createTempFile(parent, file.getFileName().toString(), ".idx");
+        this.index = FileChannel.open(indexFile, StandardOpenOption.WRITE, StandardOpenOption.READ,
+                StandardOpenOption.DELETE_ON_CLOSE);
+
+        ByteArrayOut header = new ByteArrayOut();
+        header.putLong(MAGIC);
+        ByteArrayOut schemaBytes = new ByteArrayOut();
+        schema.write(schemaBytes);
+        header.putInt(schemaBytes.size());
+        header.put(schemaBytes.array(), 0, schemaBytes.size());
+        write(header.array(), header.size());
+    }
+
+    public long count() {
+        return count;
+    }
+
+    /** Дописывает запись; её индекс — число записей до неё. */
+    public void write(Object value) throws IOException {
+        record.reset();
+        writeFields(schema.root(), value);
+        if (indexBuffer.remaining() < Long.BYTES) flushIndex();
+        indexBuffer.putLong(position);
+        maxSpan = Math.max(maxSpan, record.size());
+        write(record.array(), record.size());
+        count++;
+    }
+
+    private void writeFields(DatasetSchema.ClassSchema cls, Object value) {
+        DatasetSchema.FieldSchema[] fields = cls.fields;
+        for (int f = 0; f < fields.length; f++) {
+            Object v;
+            try {
+                v = fields[f].getter.invokeExact(value);
+            } catch (Throwable e) {
+                throw new IllegalStateException("Не удалось прочитать поле " + cls.name + "." + fields[f].name, e);
+            }
+            writeValue(cls.id, f, fields[f], v);
+        }
+    }
+
+    private void writeValue(int classId, int field, DatasetSchema.FieldSchema schema, Object v) {
+        if (v == null) {
+            record.put(DatasetSchema.NULL);
+            record.put((byte) 0);
+        } else if (schema.kind == DatasetSchema.NESTED) {
+            writeObject(schema.classId, v);
+        } else if (schema.kind == DatasetSchema.SEQUENCE) {
+            record.put(DatasetSchema.LIST);
+            int at = record.size();
+            record.put((byte) 0);
+            int start = record.size();
+            List<?> list = (List<?>) v;
+            record.putVarLong(list.size());
+            for (Object elem : list) {
+                if (elem == null) {
+                    record.put(DatasetSchema.NULL);
+                    record.put((byte) 0);
+                } else if (schema.classId >= 0) {
+                    writeObject(schema.classId, elem);
+                } else {
+                    writeScalar(classId, field, elem);
+                }
+            }
+            record.patchLength(at, start);
+        } else {
+            writeScalar(classId, field, v);
+        }
+    }
+
+    private void writeObject(int classId, Object v) {
+        record.put(DatasetSchema.OBJECT);
+        int at = record.size();
+        record.put((byte) 0);
+        int start = record.size();
+        writeFields(schema.classes.get(classId), v);
+        record.patchLength(at, start);
+    }
+
+    private void writeScalar(int classId, int field, Object v) {
+        if (v instanceof Integer || v instanceof Short || v instanceof Byte) {
+            varint(DatasetSchema.INT, ByteArrayOut.zigZag(((Number) v).longValue()));
+        } else if (v instanceof Long l) {
+            varint(DatasetSchema.LONG, ByteArrayOut.zigZag(l));
+        } else if (v instanceof Double || v instanceof Float) {
+            record.put(DatasetSchema.DOUBLE);
+            record.put((byte) Long.BYTES);
+            record.putLong(Double.doubleToRawLongBits(((Number) v).doubleValue()));
+        } else if (v instanceof Boolean b) {
+            record.put(DatasetSchema.BOOLEAN);
+            record.put((byte) 1);
+            record.put((byte) (b ? 1 : 0));
+        } else if (v instanceof BigDecimal d) {
+            writeDecimal(d.scale(), d.unscaledValue());
+        } else if (v instanceof BigInteger i) {
+            writeDecimal(0, i);
+        } else if (v instanceof LocalDate d) {
+            varint(DatasetSchema.DATE, ByteArrayOut.zigZag(d.toEpochDay()));
+        } else if (v instanceof LocalDateTime t) {
+            long seconds = ByteArrayOut.zigZag(t.toEpochSecond(ZoneOffset.UTC));
+            record.put(DatasetSchema.DATETIME);
+            record.put((byte) (ByteArrayOut.varLongSize(seconds) + ByteArrayOut.varLongSize(t.getNano())));
+            record.putVarLong(seconds);
+            record.putVarLong(t.getNano());
+        } else {
+            writeString(classId, field, v instanceof Enum<?> e ? e.name() : v.toString());
+        }
+    }
+
+    private void varint(byte tag, long v) {
+        record.put(tag);
+        record.put((byte) ByteArrayOut.varLongSize(v));
+        record.putVarLong(v);
+    }
+
+    private void writeDecimal(int scale, BigInteger unscaled) {
+        byte[] bytes = unscaled.toByteArray();
+        long zz = ByteArrayOut.zigZag(scale);
+        record.put(DatasetSchema.DECIMAL);
+        record.putVarLong(ByteArrayOut.varLongSize(zz) + bytes.length);
+        record.putVarLong(zz);
+        record.put(bytes, 0, bytes.length);
+    }
+
+    private void writeString(int classId, int field, String s) {
+        long seenCount = ++seen[classId][field];
+        Integer ref = strings.get(s);
+        if (ref != null) {
+            hits[classId][field]++;
+        } else if (stringList.size() < MAX_STRINGS && s.length() <= MAX_DICTIONARY_LENGTH
+                && (seenCount <= ADMISSION_SAMPLE || hits[classId][field] * 2 >= seenCount)) {
+            ref = stringList.size();
+            strings.put(s, ref);
+            stringList.add(s);
+        }
+        if (ref != null) {
+            varint(DatasetSchema.STRING_REF, ref);
+            return;
+        }
+        record.put(DatasetSchema.STRING);
+        record.putVarLong(ByteArrayOut.utf8Length(s));
+        record.putUtf8(s);
+    }
+
+    private void write(byte[] bytes, int length) throws IOException {
+        int off = 0;
+        while (off < length) {
+            if (!io.hasRemaining()) drain();
+            int n = Math.min(io.remaining(), length - off);
+            io.put(bytes, off, n);
+            off += n;
+        }
+        position += length;
+    }
+
+    private void drain() throws IOException {
+        io.flip();
+        while (io.hasRemaining()) channel.write(io);
+        io.clear();
+    }
+
+    private void flushIndex() throws IOException {
+        indexBuffer.flip();
+        while (indexBuffer.hasRemaining()) index.write(indexBuffer);
+        indexBuffer.clear();
+    }
+
+    /** Дописывает таблицу строк, индекс и футер. Без вызова файл не читается. */
+    @Override
+    public void close() throws IOException {
+        if (closed) return;
+        closed = true;
+        try {
+            ByteArrayOut out = new ByteArrayOut();
+            long[] offsets = new long[stringList.size()];
+            for (int i = 0; i < offsets.length; i++) {
+                out.reset();
+                byte[] bytes = stringList.get(i).getBytes(StandardCharsets.UTF_8);
+                out.putVarLong(bytes.length);
+                out.put(bytes, 0, bytes.length);
+                offsets[i] = position;
+                maxSpan = Math.max(maxSpan, out.size());
+                write(out.array(), out.size());
+            }
+            long stringOffsets = position;
+            out.reset();
+            for (long offset : offsets) out.putLong(offset);
+            write(out.array(), out.size());
+
+            long indexOffset = position;
+            drain();
+            flushIndex();
+            long indexBytes = count * Long.BYTES;
+            for (long done = 0; done < indexBytes; ) {
+                done += index.transferTo(done, indexBytes - done, channel);
+            }
+            position += indexBytes;
+
+            out.reset();
+            out.putLong(count);
+            out.putLong(indexOffset);
+            out.putLong(stringOffsets);
+            out.putLong(offsets.length);
+            out.putLong(maxSpan);
+            out.putLong(MAGIC);
+            write(out.array(), out.size());
+            drain();
+        } finally {
+            try {
+                index.close();
+            } finally {
+                channel.close();
+            }
+        }
+    }
+
+    /** Пишет все записи итератора в новый датасет. */
+    public static long write(Path file, Class<?> type, Iterator<?> records) {
+        try (DatasetWriter writer = new DatasetWriter(file, type)) {
+            while (records.hasNext()) writer.write(records.next());
+            return writer.count();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
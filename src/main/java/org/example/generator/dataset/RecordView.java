@@ -0,0 +1,250 @@
+package org.example.generator.dataset;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Запись датасета поверх отображённого файла. Поля не декодируются заранее: при первом обращении один раз
+ * проходятся заголовки полей (тег и длина), дальше читается только запрошенное поле.
+ * Вложенный объект — тоже {@code RecordView}, список — {@code List} с элементами-значениями или {@code RecordView}.
+ * Экземпляр не потокобезопасен; {@link DatasetReader#get(long)} дешёв, поэтому у каждого потока свой.
+ */
+public final class RecordView {
+
+    private static final ClassValue<Field[]> FIELDS = new ClassValue<>() {
+        @Override
+        protected Field[] computeValue(Class<?> type) {
+            return Arrays.stream(type.getDeclaredFields())
+                    .filter(f -> !Modifier.isStatic(f.getModifiers()))
+                    .peek(f -> f.setAccessible(true))
+                    .toArray(Field[]::new);
+        }
+    };
+
+    private final DatasetReader reader;
+    private final DatasetSchema.ClassSchema cls;
+    private final ByteBuffer buf;
+    private final int start;
+    private int[] offsets;
+    /** Позиция сразу после последнего прочитанного varint. */
+    private int next;
+    /** Позиция сразу после последнего декодированного значения. */
+    private int end;
+
+    RecordView(DatasetReader reader, DatasetSchema.ClassSchema cls, ByteBuffer buf, int start) {
+        this.reader = reader;
+        this.cls = cls;
+        this.buf = buf;
+        this.start = start;
+    }
+
+    /** Имя класса записи. */
+    public String type() {
+        return cls.name;
+    }
+
+    public List<String> fields() {
+        return Arrays.stream(cls.fields).map(f -> f.name).toList();
+    }
+
+    public boolean isNull(String field) {
+        return buf.get(offset(field)) == DatasetSchema.NULL;
+    }
+
+    /** Значение поля: {@code String}, {@code Integer}, {@code Long}, ..., {@code RecordView} или {@code List}. */
+    public Object get(String field) {
+        int i = index(field);
+        return decode(offset(i), cls.fields[i].classId);
+    }
+
+    public String getString(String field) {
+        return (String) get(field);
+    }
+
+    /** Целое без упаковки; {@link NullPointerException}, если поле пустое. */
+    public int getInt(String field) {
+        return (int) getLong(field);
+    }
+
+    public long getLong(String field) {
+        int p = offset(field);
+        byte tag = buf.get(p);
+        if (tag == DatasetSchema.INT || tag == DatasetSchema.LONG) {
+            varint(p + 1);
+            return unZigZag(varint(next));
+        }
+        if (tag == DatasetSchema.NULL) throw new NullPointerException("Поле " + field + " пустое");
+        return ((Number) get(field)).longValue();
+    }
+
+    public RecordView getRecord(String field) {
+        return (RecordView) get(field);
+    }
+
+    @SuppressWarnings("unchecked")
+    public List<Object> getList(String field) {
+        return (List<Object>) get(field);
+    }
+
+    /** Собирает запись в объект {@code type}: поля сопоставляются по имени, отсутствующие в датасете остаются по умолчанию. */
+    public <T> T materialize(Class<T> type) {
+        try {
+            Constructor<T> ctor = type.getDeclaredConstructor();
+            ctor.setAccessible(true);
+            T instance = ctor.newInstance();
+            for (Field field : FIELDS.get(type)) {
+                int i = cls.indexOf(field.getName());
+                if (i < 0) continue;
+                Object value = convert(decode(offset(i), cls.fields[i].classId), field.getType(), field.getGenericType());
+                if (value != null || !field.getType().isPrimitive()) field.set(instance, value);
+            }
+            return instance;
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Не удалось собрать " + type.getName() + " из датасета", e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder(cls.name.substring(cls.name.lastIndexOf('.') + 1)).append('{');
+        for (int i = 0; i < cls.fields.length; i++) {
+            if (i > 0) sb.append(", ");
+            sb.append(cls.fields[i].name).append('=').append(decode(offset(i), cls.fields[i].classId));
+        }
+        return sb.append('}').toString();
+    }
+
+    private int index(String field) {
+        int i = cls.indexOf(field);
+        if (i < 0) throw new IllegalArgumentException("В " + cls.name + " нет поля " + field);
+        return i;
+    }
+
+    private int offset(String field) {
+        return offset(index(field));
+    }
+
+    /** Смещение заголовка поля; при первом обращении проходит заголовки всех полей записи. */
+    private int offset(int field) {
+        if (offsets == null) {
+            int[] scanned = new int[cls.fields.length];
+            int p = start;
+            for (int f = 0; f < scanned.length; f++) {
+                scanned[f] = p;
+                long length = varint(p + 1);
+                p = next + (int) length;
+            }
+            offsets = scanned;
+        }
+        return offsets[field];
+    }
+
+    private Object decode(int p, int classId) {
+        byte tag = buf.get(p);
+        int length = (int) varint(p + 1);
+        int data = next;
+        end = data + length;
+        Object value = switch (tag) {
+            case DatasetSchema.NULL -> null;
+            case DatasetSchema.INT -> (int) unZigZag(varint(data));
+            case DatasetSchema.LONG -> unZigZag(varint(data));
+            case DatasetSchema.DOUBLE -> buf.getDouble(data);
+            case DatasetSchema.BOOLEAN -> buf.get(data) != 0;
+            case DatasetSchema.STRING -> {
+                byte[] bytes = new byte[length];
+                buf.get(data, bytes);
+                yield new String(bytes, StandardCharsets.UTF_8);
+            }
+            case DatasetSchema.STRING_REF -> reader.string((int) varint(data));
+            case DatasetSchema.DECIMAL -> {
+                int scale = (int) unZigZag(varint(data));
+                byte[] bytes = new byte[data + length - next];
+                buf.get(next, bytes);
+                yield new BigDecimal(new BigInteger(bytes), scale);
+            }
+            case DatasetSchema.DATE -> LocalDate.ofEpochDay(unZigZag(varint(data)));
+            case DatasetSchema.DATETIME -> {
+                long seconds = unZigZag(varint(data));
+                yield LocalDateTime.ofEpochSecond(seconds, (int) varint(next), ZoneOffset.UTC);
+            }
+            case DatasetSchema.OBJECT -> new RecordView(reader, reader.schema.classes.get(classId), buf, data);
+            case DatasetSchema.LIST -> {
+                int size = (int) varint(data);
+                int q = next;
+                int listEnd = data + length;
+                List<Object> list = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    list.add(decode(q, classId));
+                    q = end;
+                }
+                end = listEnd;
+                yield list;
+            }
+            default -> throw new IllegalStateException("Неизвестный тег " + tag + " в " + cls.name);
+        };
+        end = tag == DatasetSchema.LIST ? end : data + length;
+        return value;
+    }
+
+    private long varint(int p) {
+        long value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = buf.get(p++);
+            value |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while (b < 0);
+        next = p;
+        return value;
+    }
+
+    private static long unZigZag(long v) {
+        return (v >>> 1) ^ -(v & 1);
+    }
+
+    private Object convert(Object value, Class<?> type, Type generic) {
+        if (value == null) return null;
+        if (value instanceof RecordView view) return view.materialize(type);
+        if (value instanceof List<?> list) {
+            Class<?> elemType = generic instanceof ParameterizedType pt && pt.getActualTypeArguments()[0] instanceof Class<?> c
+                    ? c : Object.class;
+            List<Object> out = new ArrayList<>(list.size());
+            for (Object elem : list) out.add(convert(elem, elemType, elemType));
+            return out;
+        }
+        if (value instanceof Number n) {
+            if (type == int.class || type == Integer.class) return n.intValue();
+            if (type == long.class || type == Long.class) return n.longValue();
+            if (type == short.class || type == Short.class) return n.shortValue();
+            if (type == byte.class || type == Byte.class) return n.byteValue();
+            if (type == double.class || type == Double.class) return n.doubleValue();
+            if (type == float.class || type == Float.class) return n.floatValue();
+            if (type == BigInteger.class && n instanceof BigDecimal d) return d.toBigInteger();
+            return value;
+        }
+        if (value instanceof String s) {
+            if (type.isEnum()) return enumValue(type, s);
+            if ((type == char.class || type == Character.class) && !s.isEmpty()) return s.charAt(0);
+        }
+        return value;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Object enumValue(Class<?> type, String name) {
+        return Enum.valueOf((Class) type, name);
+    }
+}
@@ -0,0 +1,26 @@
+package org.example.generator.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/** Компиляция билдера: правила путей, генераторы SPI, выбор сида и локали. */
+@Name("org.example.testdata.BuilderSetup")
+@Label("Builder Setup")
+@Category({"Test Data Generator"})
+@Description("Компиляция правил билдера перед генерацией")
+public final class BuilderSetupEvent extends Event {
+    @Label("DTO Class")
+    public Class<?> dtoClass;
+
+    @Label("Locale")
+    public String locale;
+
+    @Label("Base Seed")
+    public long seed;
+
+    @Label("Explicit Seed")
+    public boolean explicitSeed;
+}
@@ -0,0 +1,15 @@
+package org.example.generator.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/** Создание Faker для локали в пуле потока (парсинг YAML локали). */
+@Name("org.example.testdata.FakerCreation")
+@Label("Faker Creation")
+@Category({"Test Data Generator"})
+public final class FakerCreationEvent extends Event {
+    @Label("Locale")
+    public String locale;
+}
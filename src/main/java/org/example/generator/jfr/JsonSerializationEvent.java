@@ -0,0 +1,20 @@
+package org.example.generator.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/** Сериализация в JSON: {@code toJson} или потоковая запись {@code writeJson}. */
+@Name("org.example.testdata.JsonSerialization")
+@Label("JSON Serialization")
+@Category({"Test Data Generator"})
+public final class JsonSerializationEvent extends Event {
+    @Label("Format")
+    @Description("PRETTY для toJson, ARRAY или NDJSON для writeJson")
+    public String format;
+
+    @Label("Records")
+    public long records;
+}
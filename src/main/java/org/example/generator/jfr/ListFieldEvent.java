@@ -0,0 +1,31 @@
+package org.example.generator.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/** Заполнение поля-списка внутри записи. */
+@Name("org.example.testdata.ListField")
+@Label("List Field Generation")
+@Category({"Test Data Generator"})
+@Threshold("1 ms")
+@StackTrace(false)
+public final class ListFieldEvent extends Event {
+    @Label("DTO Class")
+    public Class<?> dtoClass;
+
+    @Label("Field")
+    public String field;
+
+    @Label("Element Type")
+    public Class<?> elementType;
+
+    @Label("Size")
+    public int size;
+
+    @Label("Locale")
+    public String locale;
+}
@@ -0,0 +1,21 @@
+package org.example.generator.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/** {@code buildList}: генерация пачки записей, последовательно или в ForkJoinPool. */
+@Name("org.example.testdata.List")
+@Label("List Generation")
+@Category({"Test Data Generator"})
+public final class ListGenerationEvent extends Event {
+    @Label("DTO Class")
+    public Class<?> dtoClass;
+
+    @Label("Count")
+    public int count;
+
+    @Label("Parallelism")
+    public int parallelism;
+}
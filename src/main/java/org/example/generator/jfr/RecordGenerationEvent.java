@@ -0,0 +1,25 @@
+package org.example.generator.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/** Генерация одной записи. По умолчанию пишутся только записи дольше 1 мс — для поиска всплесков задержки. */
+@Name("org.example.testdata.Record")
+@Label("Record Generation")
+@Category({"Test Data Generator"})
+@Threshold("1 ms")
+@StackTrace(false)
+public final class RecordGenerationEvent extends Event {
+    @Label("DTO Class")
+    public Class<?> dtoClass;
+
+    @Label("Record Index")
+    public long index;
+
+    @Label("Locale")
+    public String locale;
+}
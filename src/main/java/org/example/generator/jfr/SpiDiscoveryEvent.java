@@ -0,0 +1,21 @@
+package org.example.generator.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/** Однократное сканирование SPI {@code FieldGenerator}. */
+@Name("org.example.testdata.SpiDiscovery")
+@Label("SPI Discovery")
+@Category({"Test Data Generator"})
+@Description("Загрузка и сортировка генераторов полей через ServiceLoader")
+public final class SpiDiscoveryEvent extends Event {
+    @Label("Generator Count")
+    public int generatorCount;
+
+    @Label("Generators")
+    @Description("Классы генераторов в порядке выбора")
+    public String generators;
+}
@@ -0,0 +1,31 @@
+package org.example.generator.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Enabled;
+import jdk.jfr.StackTrace;
+
+/** Вызов генератора значения. Выключено по умолчанию: включается в настройках записи для разбора конкретного поля. */
+@Name("org.example.testdata.Value")
+@Label("Value Generation")
+@Category({"Test Data Generator"})
+@Enabled(false)
+@StackTrace(false)
+public final class ValueGenerationEvent extends Event {
+    @Label("Generator")
+    public Class<?> generator;
+
+    @Label("DTO Class")
+    public Class<?> dtoClass;
+
+    @Label("Field")
+    public String field;
+
+    @Label("Locale")
+    public String locale;
+
+    @Label("Invalid")
+    public boolean invalid;
+}
@@ -0,0 +1,236 @@
+package org.example.generator.sink;
+
+import org.example.generator.RecordSink;
+import org.example.generator.SinkTable;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * {@link RecordSink}, пишущий по файлу на таблицу в формате CSV (RFC 4180, с заголовком) или текстовом формате
+ * PostgreSQL {@code COPY ... FROM} (табуляция, {@code \N} для null, без заголовка).
+ * По умолчанию вложенные DTO разворачиваются в колонки ({@link #inlineNested()}), а списки — в дочерние файлы
+ * со ссылкой {@code parent_id}.
+ * <p>
+ * Значения экранируются посимвольно в переиспользуемый {@link CharBuffer}, кодируются в UTF-8 в direct
+ * {@link ByteBuffer} и пишутся прямо в {@link FileChannel} — без промежуточных строк и регулярных выражений.
+ */
+public class DelimitedFileSink implements RecordSink, AutoCloseable {
+
+    public enum Format {
+        /** {@code ,}-разделитель, кавычки при необходимости, null — пустое поле, пустая строка — {@code ""}. */
+        CSV(".csv"),
+        /** Текстовый формат {@code COPY}: {@code \t}-разделитель, {@code \N} — null, обратный слэш экранирует спецсимволы. */
+        COPY_TEXT(".tsv");
+
+        private final String extension;
+
+        Format(String extension) {
+            this.extension = extension;
+        }
+    }
+
+    private static final int CHAR_BUFFER = 1 << 15;
+    private static final int BYTE_BUFFER = 1 << 17;
+
+    private final Path directory;
+    private final Format format;
+    private boolean inlineNested = true;
+    private TableWriter[] writers;
+
+    public DelimitedFileSink(Path directory, Format format) {
+        this.directory = directory;
+        this.format = format;
+    }
+
+    /** {@code false} — каждый вложенный DTO в свой файл, как в {@link JdbcRecordSink}. */
+    public DelimitedFileSink inlineNested(boolean inlineNested) {
+        this.inlineNested = inlineNested;
+        return this;
+    }
+
+    @Override
+    public boolean inlineNested() {
+        return inlineNested;
+    }
+
+    /** Файл таблицы: {@code <directory>/<table>.csv} или {@code .tsv}. */
+    public Path file(SinkTable table) {
+        return directory.resolve(table.getName() + format.extension);
+    }
+
+    @Override
+    public void open(List<SinkTable> tables) throws IOException {
+        Files.createDirectories(directory);
+        writers = new TableWriter[tables.size()];
+        for (SinkTable table : tables) {
+            TableWriter writer = new TableWriter(FileChannel.open(file(table), StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING));
+            writers[table.getIndex()] = writer;
+            if (format == Format.CSV) {
+                List<String> columns = table.getColumns();
+                for (int i = 0; i < columns.size(); i++) {
+                    if (i > 0) writer.put(',');
+                    writer.putCsv(columns.get(i));
+                }
+                writer.put('\n');
+            }
+        }
+    }
+
+    @Override
+    public void accept(SinkTable table, Object[] row) throws IOException {
+        TableWriter writer = writers[table.getIndex()];
+        char delimiter = format == Format.CSV ? ',' : '\t';
+        for (int i = 0; i < row.length; i++) {
+            if (i > 0) writer.put(delimiter);
+            Object value = row[i];
+            if (value == null) {
+                if (format == Format.COPY_TEXT) writer.putAscii("\\N");
+            } else if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+                writer.putLong(((Number) value).longValue());
+            } else {
+                String text = value instanceof Enum<?> e ? e.name() : value.toString();
+                if (format == Format.CSV) writer.putCsv(text); else writer.putCopy(text);
+            }
+        }
+        writer.put('\n');
+    }
+
+    @Override
+    public void finish() throws IOException {
+        for (TableWriter writer : writers) writer.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (writers == null) return;
+        IOException failure = null;
+        for (TableWriter writer : writers) {
+            try {
+                if (writer != null) writer.channel.close();
+            } catch (IOException e) {
+                if (failure == null) failure = e; else failure.addSuppressed(e);
+            }
+        }
+        writers = null;
+        if (failure != null) throw failure;
+    }
+
+    /** Буферы одного файла: символы → UTF-8 → канал. */
+    private static final class TableWriter {
+        final FileChannel channel;
+        final char[] chars = new char[CHAR_BUFFER];
+        final CharBuffer charView = CharBuffer.wrap(chars);
+        final ByteBuffer bytes = ByteBuffer.allocateDirect(BYTE_BUFFER);
+        final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder();
+        final char[] digits = new char[20];
+        int pos;
+
+        TableWriter(FileChannel channel) {
+            this.channel = channel;
+        }
+
+        void put(char c) throws IOException {
+            if (pos == chars.length) encode(false);
+            chars[pos++] = c;
+        }
+
+        void putAscii(String s) throws IOException {
+            for (int i = 0; i < s.length(); i++) put(s.charAt(i));
+        }
+
+        /** Число без {@code Long.toString}: цифры пишутся с конца во временный массив. */
+        void putLong(long v) throws IOException {
+            if (v == Long.MIN_VALUE) {
+                putAscii("-9223372036854775808");
+                return;
+            }
+            if (v < 0) {
+                put('-');
+                v = -v;
+            }
+            int i = digits.length;
+            do {
+                digits[--i] = (char) ('0' + v % 10);
+                v /= 10;
+            } while (v != 0);
+            if (chars.length - pos < digits.length) encode(false);
+            System.arraycopy(digits, i, chars, pos, digits.length - i);
+            pos += digits.length - i;
+        }
+
+        /** Кавычки — только если в значении есть {@code , " \r \n} или оно пустое; {@code "} удваивается. */
+        void putCsv(String s) throws IOException {
+            boolean quote = s.isEmpty();
+            for (int i = 0; i < s.length() && !quote; i++) {
+                char c = s.charAt(i);
+                quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+            }
+            if (!quote) {
+                for (int i = 0; i < s.length(); i++) put(s.charAt(i));
+                return;
+            }
+            put('"');
+            for (int i = 0; i < s.length(); i++) {
+                char c = s.charAt(i);
+                if (c == '"') put('"');
+                put(c);
+            }
+            put('"');
+        }
+
+        void putCopy(String s) throws IOException {
+            for (int i = 0; i < s.length(); i++) {
+                char c = s.charAt(i);
+                switch (c) {
+                    case '\\' -> { put('\\'); put('\\'); }
+                    case '\t' -> { put('\\'); put('t'); }
+                    case '\n' -> { put('\\'); put('n'); }
+                    case '\r' -> { put('\\'); put('r'); }
+                    default -> put(c);
+                }
+            }
+        }
+
+        /** Кодирует накопленные символы; незавершённая суррогатная пара остаётся в начале буфера. */
+        void encode(boolean endOfInput) throws IOException {
+            charView.limit(pos).position(0);
+            while (true) {
+                CoderResult result = encoder.encode(charView, bytes, endOfInput);
+                if (result.isOverflow()) {
+                    write();
+                } else if (result.isError()) {
+                    result.throwException();
+                } else {
+                    break;
+                }
+            }
+            int left = charView.remaining();
+            System.arraycopy(chars, charView.position(), chars, 0, left);
+            pos = left;
+        }
+
+        void flush() throws IOException {
+            encode(true);
+            while (encoder.flush(bytes).isOverflow()) write();
+            write();
+            encoder.reset();
+        }
+
+        void write() throws IOException {
+            bytes.flip();
+            while (bytes.hasRemaining()) channel.write(bytes);
+            bytes.clear();
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package org.example.generator.sink;
+
+import org.example.generator.RecordSink;
+import org.example.generator.SinkTable;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.StringJoiner;
+
+/**
+ * {@link RecordSink}, вставляющий строки через {@link PreparedStatement#addBatch()}: один statement на таблицу.
+ * Когда в какой-либо таблице набирается {@link #batchSize(int)} строк, выполняются пакеты всех таблиц
+ * от корня к листьям — строки родителей всегда попадают в базу раньше ссылающихся на них строк,
+ * поэтому внешние ключи {@code parent_id} можно держать включёнными.
+ * <p>
+ * Транзакциями управляет вызывающий код: sink не коммитит и не закрывает соединение.
+ * {@link #close()} закрывает только statement-ы.
+ */
+public class JdbcRecordSink implements RecordSink, AutoCloseable {
+
+    public static final int DEFAULT_BATCH_SIZE = 1000;
+
+    private final Connection connection;
+    private int batchSize = DEFAULT_BATCH_SIZE;
+    private boolean createTables;
+    private String tablePrefix = "";
+
+    private List<SinkTable> tables;
+    private PreparedStatement[] statements;
+    private int[][] sqlTypes;
+    private int[] pending;
+
+    public JdbcRecordSink(Connection connection) {
+        this.connection = connection;
+    }
+
+    /** Строк в пакете одной таблицы перед выполнением; по умолчанию {@value #DEFAULT_BATCH_SIZE}. */
+    public JdbcRecordSink batchSize(int batchSize) {
+        if (batchSize < 1) throw new IllegalArgumentException("batchSize должен быть >= 1: " + batchSize);
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    /** Создавать таблицы ({@code CREATE TABLE IF NOT EXISTS}) с первичным ключом {@code id} и внешним ключом {@code parent_id}. */
+    public JdbcRecordSink createTables(boolean createTables) {
+        this.createTables = createTables;
+        return this;
+    }
+
+    /** Префикс имён таблиц, например схема {@code "test_data."}. */
+    public JdbcRecordSink tablePrefix(String tablePrefix) {
+        this.tablePrefix = tablePrefix;
+        return this;
+    }
+
+    @Override
+    public void open(List<SinkTable> tables) throws SQLException {
+        this.tables = tables;
+        if (createTables) {
+            try (Statement ddl = connection.createStatement()) {
+                for (SinkTable table : tables) ddl.execute(createTableSql(table));
+            }
+        }
+        statements = new PreparedStatement[tables.size()];
+        sqlTypes = new int[tables.size()][];
+        pending = new int[tables.size()];
+        for (SinkTable table : tables) {
+            statements[table.getIndex()] = connection.prepareStatement(insertSql(table));
+            List<Class<?>> types = table.getColumnTypes();
+            int[] sql = new int[types.size()];
+            for (int i = 0; i < sql.length; i++) sql[i] = sqlType(types.get(i));
+            sqlTypes[table.getIndex()] = sql;
+        }
+    }
+
+    @Override
+    public void accept(SinkTable table, Object[] row) throws SQLException {
+        int t = table.getIndex();
+        PreparedStatement statement = statements[t];
+        int[] types = sqlTypes[t];
+        for (int i = 0; i < row.length; i++) {
+            Object value = row[i];
+            if (value == null) {
+                statement.setNull(i + 1, types[i]);
+            } else if (types[i] == Types.VARCHAR && !(value instanceof String)) {
+                statement.setString(i + 1, value instanceof Enum<?> e ? e.name() : value.toString());
+            } else {
+                statement.setObject(i + 1, value);
+            }
+        }
+        statement.addBatch();
+        if (++pending[t] >= batchSize) executeBatches();
+    }
+
+    @Override
+    public void finish() throws SQLException {
+        executeBatches();
+    }
+
+    /** Выполняет накопленные пакеты всех таблиц в порядке от корня к листьям. */
+    private void executeBatches() throws SQLException {
+        for (int t = 0; t < statements.length; t++) {
+            if (pending[t] > 0) {
+                statements[t].executeBatch();
+                pending[t] = 0;
+            }
+        }
+    }
+
+    @Override
+    public void close() throws SQLException {
+        if (statements == null) return;
+        SQLException failure = null;
+        for (PreparedStatement statement : statements) {
+            try {
+                if (statement != null) statement.close();
+            } catch (SQLException e) {
+                if (failure == null) failure = e; else failure.addSuppressed(e);
+            }
+        }
+        statements = null;
+        if (failure != null) throw failure;
+    }
+
+    private String insertSql(SinkTable table) {
+        StringJoiner columns = new StringJoiner(", ");
+        StringJoiner params = new StringJoiner(", ");
+        for (String column : table.getColumns()) {
+            columns.add(column);
+            params.add("?");
+        }
+        return "INSERT INTO " + tablePrefix + table.getName() + " (" + columns + ") VALUES (" + params + ")";
+    }
+
+    private String createTableSql(SinkTable table) {
+        StringJoiner defs = new StringJoiner(", ");
+        List<String> columns = table.getColumns();
+        for (int i = 0; i < columns.size(); i++) {
+            String column = columns.get(i);
+            String def = column + " " + ddlType(table.getColumnTypes().get(i));
+            if (SinkTable.ID.equals(column)) def += " PRIMARY KEY";
+            else if (SinkTable.PARENT_ID.equals(column) || SinkTable.INDEX.equals(column)) def += " NOT NULL";
+            defs.add(def);
+        }
+        if (table.getParent() != null) {
+            defs.add("FOREIGN KEY (" + SinkTable.PARENT_ID + ") REFERENCES "
+                    + tablePrefix + table.getParent().getName() + " (" + SinkTable.ID + ")");
+        }
+        return "CREATE TABLE IF NOT EXISTS " + tablePrefix + table.getName() + " (" + defs + ")";
+    }
+
+    private static int sqlType(Class<?> type) {
+        if (type == int.class || type == Integer.class || type == short.class || type == Short.class
+                || type == byte.class || type == Byte.class) return Types.INTEGER;
+        if (type == long.class || type == Long.class) return Types.BIGINT;
+        if (type == double.class || type == Double.class || type == float.class || type == Float.class) return Types.DOUBLE;
+        if (type == boolean.class || type == Boolean.class) return Types.BOOLEAN;
+        if (type == BigDecimal.class || type == BigInteger.class) return Types.NUMERIC;
+        if (type == LocalDate.class) return Types.DATE;
+        if (type == LocalDateTime.class) return Types.TIMESTAMP;
+        return Types.VARCHAR;
+    }
+
+    private static String ddlType(Class<?> type) {
+        return switch (sqlType(type)) {
+            case Types.INTEGER -> "INTEGER";
+            case Types.BIGINT -> "BIGINT";
+            case Types.DOUBLE -> "DOUBLE PRECISION";
+            case Types.BOOLEAN -> "BOOLEAN";
+            case Types.NUMERIC -> "NUMERIC(38, 10)";
+            case Types.DATE -> "DATE";
+            case Types.TIMESTAMP -> "TIMESTAMP";
+            default -> "VARCHAR(4000)";
+        };
+    }
+}
@@ -0,0 +1,281 @@
+package org.example.integration;
+
+import com.github.javafaker.Faker;
+import org.example.generator.CoreDataGenerator;
+import org.example.generator.dataGenerator.repository.GeneratorRegistry;
+import org.example.generator.dataset.DatasetReader;
+import org.example.generator.dataset.DatasetWriter;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.CodeSource;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Stream;
+
+/**
+ * Дисковый кэш значений {@link GenerateTestData}: файл на конфигурацию в формате {@link DatasetWriter}.
+ * Ключ — SHA-256 от конфигурации аннотации, структуры DTO (поля, типы, аннотации), байткода всего пакета
+ * {@code org.example.generator} (включая вложенные классы и формат датасета), SPI-генераторов и jar-файла Faker
+ * со словарями, поэтому после изменения DTO, генератора или версии Faker кэш просто не находится.
+ * Файлы пишутся во временный файл и переименовываются, так что параллельные тесты и процессы не видят
+ * недописанный файл. Чтение обновляет время изменения; при превышении {@code maxBytes} удаляются самые давние.
+ */
+final class DatasetCache {
+
+    private static final String EXTENSION = ".tdg";
+    /** Версия схемы ключа; повышается при любом изменении того, что входит в {@link #describe}. */
+    private static final String KEY_VERSION = "v2";
+    /** Всё, от чего зависят сгенерированные значения: генераторы, их зависимости и ядро. */
+    private static final String GENERATOR_PACKAGE = "org/example/generator/";
+
+    private static volatile String codeFingerprint;
+
+    private final Path dir;
+    private final long maxBytes;
+
+    DatasetCache(Path dir, long maxBytes) {
+        this.dir = dir;
+        this.maxBytes = maxBytes;
+    }
+
+    /** Значение из кэша или {@code generate.get()}, которое затем сохраняется под ключом. */
+    Object get(String key, Class<?> type, Supplier<?> generate) {
+        Path file = dir.resolve(key + EXTENSION);
+        if (Files.exists(file)) {
+            try (DatasetReader reader = DatasetReader.open(file)) {
+                Object value = reader.read(0, type);
+                Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+                return value;
+            } catch (IOException | RuntimeException unreadable) {
+                // повреждённый файл или несовместимый DTO: генерируем и перезаписываем
+                deleteQuietly(file);
+            }
+        }
+        Object value = generate.get();
+        store(file, type, value);
+        evict(file);
+        return value;
+    }
+
+    private void store(Path file, Class<?> type, Object value) {
+        try {
+            Files.createDirectories(dir);
+            Path tmp = Files.createTempFile(dir, file.getFileName().toString(), ".tmp");
+            try {
+                DatasetWriter.write(tmp, type, List.of(value).iterator());
+                try {
+                    Files.move(tmp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+                } catch (AtomicMoveNotSupportedException e) {
+                    Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING);
+                }
+            } finally {
+                deleteQuietly(tmp);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Не удалось сохранить тестовые данные в кэш " + dir, e);
+        }
+    }
+
+    /** LRU по времени изменения; только что записанный файл не удаляется. */
+    private synchronized void evict(Path keep) {
+        record Entry(Path path, long size, long modified) {
+        }
+        List<Entry> entries = new ArrayList<>();
+        long total = 0;
+        try (Stream<Path> files = Files.list(dir)) {
+            for (Path path : (Iterable<Path>) files::iterator) {
+                if (!path.getFileName().toString().endsWith(EXTENSION)) continue;
+                try {
+                    Entry entry = new Entry(path, Files.size(path), Files.getLastModifiedTime(path).toMillis());
+                    entries.add(entry);
+                    total += entry.size();
+                } catch (NoSuchFileException removedConcurrently) {
+                    // файл уже удалил другой процесс
+                }
+            }
+        } catch (IOException e) {
+            return;
+        }
+        if (total <= maxBytes) return;
+        entries.sort(Comparator.comparingLong(Entry::modified));
+        for (Entry entry : entries) {
+            if (total <= maxBytes) break;
+            if (entry.path().equals(keep)) continue;
+            if (deleteQuietly(entry.path())) total -= entry.size();
+        }
+    }
+
+    private static boolean deleteQuietly(Path path) {
+        try {
+            return Files.deleteIfExists(path);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /** Каноническое описание конфигурации аннотации без сида. */
+    static String describe(GenerateTestData annotation) {
+        StringBuilder sb = new StringBuilder(KEY_VERSION).append('\n');
+        describeType(sb, annotation.value(), new HashSet<>());
+        sb.append("locale=").append(annotation.locale())
+                .append("\nonlyRequired=").append(annotation.onlyRequired())
+                .append("\nrussianPassport=").append(annotation.useRussianPassport())
+                .append("\ninnForUl=").append(annotation.useInnForUl()).append('\n');
+        for (FieldInvalidation inv : annotation.invalidate()) {
+            sb.append("invalidate=").append(Arrays.toString(inv.path())).append(':').append(inv.type()).append('\n');
+        }
+        for (FixedListSize size : annotation.fixedListSizes()) {
+            sb.append("fixedSize=").append(Arrays.toString(size.path())).append(':').append(size.size()).append('\n');
+        }
+        for (FieldLocale locale : annotation.fieldLocales()) {
+            sb.append("fieldLocale=").append(Arrays.toString(locale.path())).append(':').append(locale.locale()).append('\n');
+        }
+        return sb.append("code=").append(codeFingerprint()).toString();
+    }
+
+    /** Сид для аннотации без {@link GenerateTestData#seed()}: одинаковая конфигурация — одинаковые данные. */
+    static long derivedSeed(String description) {
+        return ByteBuffer.wrap(sha256(description)).getLong();
+    }
+
+    static String key(String description, long seed) {
+        return HexFormat.of().formatHex(sha256(description + "\nseed=" + seed), 0, 16);
+    }
+
+    private static void describeType(StringBuilder sb, Class<?> type, Set<Class<?>> seen) {
+        if (!seen.add(type)) return;
+        sb.append("class ").append(type.getName()).append('\n');
+        List<Class<?>> nested = new ArrayList<>();
+        for (Field field : type.getDeclaredFields()) {
+            if (Modifier.isStatic(field.getModifiers())) continue;
+            sb.append("  ").append(field.getGenericType().getTypeName()).append(' ').append(field.getName())
+                    .append(' ').append(Arrays.toString(field.getAnnotations())).append('\n');
+            Class<?> candidate = field.getType();
+            Type generic = field.getGenericType();
+            if (generic instanceof ParameterizedType pt && pt.getActualTypeArguments()[0] instanceof Class<?> c) {
+                candidate = c;
+            }
+            if (isUserType(candidate)) nested.add(candidate);
+        }
+        for (Class<?> n : nested) describeType(sb, n, seen);
+    }
+
+    private static boolean isUserType(Class<?> type) {
+        return !type.isPrimitive() && !type.isArray() && !type.isEnum() && type.getClassLoader() != null
+                && !type.getName().startsWith("java.");
+    }
+
+    /** SHA-256 байткода генераторов, ядра и Faker; считается один раз на JVM. */
+    private static String codeFingerprint() {
+        String result = codeFingerprint;
+        if (result == null) {
+            MessageDigest digest = newDigest();
+            digestCodeSource(digest, CoreDataGenerator.class, GENERATOR_PACKAGE);
+            // сторонние генераторы из SPI могут лежать вне пакета
+            ClassLoader loader = DatasetCache.class.getClassLoader();
+            for (Class<?> type : GeneratorRegistry.getInstance().generatorTypes()) {
+                String resource = type.getName().replace('.', '/') + ".class";
+                if (resource.startsWith(GENERATOR_PACKAGE)) continue;
+                digest.update(resource.getBytes(StandardCharsets.UTF_8));
+                try (InputStream in = loader.getResourceAsStream(resource)) {
+                    if (in != null) digest.update(in.readAllBytes());
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+            // весь jar Faker: классы и YAML-словари
+            digestCodeSource(digest, Faker.class, "");
+            codeFingerprint = result = HexFormat.of().formatHex(digest.digest());
+        }
+        return result;
+    }
+
+    /**
+     * Имена и содержимое файлов под {@code prefix} в каталоге или jar, откуда загружен {@code anchor},
+     * в отсортированном порядке. Без доступного источника учитывается только версия реализации пакета.
+     */
+    private static void digestCodeSource(MessageDigest digest, Class<?> anchor, String prefix) {
+        CodeSource source = anchor.getProtectionDomain().getCodeSource();
+        URL location = source == null ? null : source.getLocation();
+        Path root = null;
+        try {
+            if (location != null && "file".equals(location.getProtocol())) root = Path.of(location.toURI());
+        } catch (URISyntaxException | IllegalArgumentException e) {
+            root = null;
+        }
+        if (root == null) {
+            digest.update((anchor.getName() + '@' + anchor.getPackage().getImplementationVersion())
+                    .getBytes(StandardCharsets.UTF_8));
+            return;
+        }
+        try {
+            if (Files.isDirectory(root)) {
+                Path base = root.resolve(prefix);
+                List<Path> files;
+                try (Stream<Path> walk = Files.walk(base)) {
+                    files = walk.filter(Files::isRegularFile).sorted().toList();
+                }
+                for (Path file : files) {
+                    digest.update(root.relativize(file).toString().replace('\\', '/').getBytes(StandardCharsets.UTF_8));
+                    digest.update(Files.readAllBytes(file));
+                }
+            } else {
+                try (JarFile jar = new JarFile(root.toFile())) {
+                    List<JarEntry> entries = new ArrayList<>();
+                    for (Enumeration<JarEntry> e = jar.entries(); e.hasMoreElements(); ) {
+                        JarEntry entry = e.nextElement();
+                        if (!entry.isDirectory() && entry.getName().startsWith(prefix)) entries.add(entry);
+                    }
+                    entries.sort(Comparator.comparing(JarEntry::getName));
+                    for (JarEntry entry : entries) {
+                        digest.update(entry.getName().getBytes(StandardCharsets.UTF_8));
+                        try (InputStream in = jar.getInputStream(entry)) {
+                            digest.update(in.readAllBytes());
+                        }
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Не удалось прочитать " + root, e);
+        }
+    }
+
+    private static byte[] sha256(String text) {
+        return newDigest().digest(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -10,6 +10,9 @@ import java.lang.annotation.Target;
 @Target({ElementType.PARAMETER, ElementType.FIELD})
 public @interface GenerateTestData {
 
+    /** Значение {@link #seed()} по умолчанию: сид не задан. */
+    long NO_SEED = Long.MIN_VALUE;
+
     Class<?> value();  // Класс, данные для которого генерируются
 
     String locale() default "";  // Локаль для генерации данных
@@ -26,4 +29,9 @@ public @interface GenerateTestData {
     FixedListSize[] fixedListSizes() default {};  // Размеры фиксированных списков
 
     FieldLocale[] fieldLocales() default {};  // Локализация полей
+
+    long seed() default NO_SEED;  // Базовый сид; при cache = true без сида выводится из конфигурации
+
+    // Брать значение из дискового кэша (см. TestDataExtension), если оно уже сгенерировано с той же конфигурацией
+    boolean cache() default false;
 }
\ No newline at end of file
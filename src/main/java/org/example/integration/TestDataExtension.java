@@ -3,13 +3,31 @@ package org.example.integration;
 import org.example.DTO.Customer;
 import org.example.config.InvalidDataType;
 import org.example.generator.CoreDataGenerator;
+import org.example.generator.GenerationTemplate;
 import org.junit.jupiter.api.extension.*;
 
 import java.lang.reflect.Parameter;
+import java.nio.file.Path;
 import java.util.List;
 
+/**
+ * Подставляет в параметры с {@link GenerateTestData} сгенерированные объекты.
+ * Каждая аннотация компилируется в шаблон один раз на запуск (корневой {@link ExtensionContext.Store}),
+ * поэтому параметр стоит только генерации записи; безопасно при параллельном запуске тестов.
+ * Без {@code seed} параметры получают разные записи одного шаблона, с {@code seed} — одну и ту же.
+ * С {@code cache = true} значение сохраняется на диск и в следующих запусках читается оттуда
+ * (см. {@link DatasetCache}). Каталог и предел размера задаются параметрами конфигурации JUnit
+ * или системными свойствами {@value #CACHE_DIR} (по умолчанию {@code build/testdata-cache})
+ * и {@value #CACHE_MAX_BYTES} (по умолчанию 256 МБ).
+ */
 public class TestDataExtension implements ParameterResolver {
 
+    public static final String CACHE_DIR = "testdata.cache.dir";
+    public static final String CACHE_MAX_BYTES = "testdata.cache.maxBytes";
+
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(TestDataExtension.class);
+    private static final long DEFAULT_CACHE_MAX_BYTES = 256L << 20;
+
     @Override
     public boolean supportsParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
         Parameter parameter = parameterContext.getParameter();
@@ -18,30 +36,71 @@ public class TestDataExtension implements ParameterResolver {
 
     @Override
     public Object resolveParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
-        Parameter parameter = parameterContext.getParameter();
-        GenerateTestData annotation = parameter.getAnnotation(GenerateTestData.class);
+        GenerateTestData annotation = parameterContext.getParameter().getAnnotation(GenerateTestData.class);
+        // одинаковые аннотации равны по значению, поэтому разделяют один шаблон
+        ParameterTemplate template = extensionContext.getRoot().getStore(NAMESPACE)
+                .getOrComputeIfAbsent(annotation, k -> ParameterTemplate.compile(annotation), ParameterTemplate.class);
+        if (template.cacheKey != null) {
+            return cache(extensionContext).get(template.cacheKey, annotation.value(), () -> template.generator.get(0));
+        }
+        return template.fixedSeed ? template.generator.get(0) : template.generator.next();
+    }
 
-        // Создание билдера
-        CoreDataGenerator.Builder<?> builder = CoreDataGenerator.builder(annotation.value());
+    /** Один кэш на запуск тестов: хранится в корневом контексте. */
+    private static DatasetCache cache(ExtensionContext context) {
+        return context.getRoot().getStore(NAMESPACE).getOrComputeIfAbsent(DatasetCache.class, k -> new DatasetCache(
+                Path.of(context.getConfigurationParameter(CACHE_DIR).orElse("build/testdata-cache")),
+                context.getConfigurationParameter(CACHE_MAX_BYTES).map(Long::parseLong).orElse(DEFAULT_CACHE_MAX_BYTES)),
+                DatasetCache.class);
+    }
 
-        // Применение параметров из аннотации
-        if (!annotation.locale().isEmpty()) builder.withLocale(annotation.locale());
-        if (annotation.onlyRequired()) builder.onlyRequired();
-        if (annotation.useRussianPassport()) builder.withRussianPassport(true);
-        if (annotation.useInnForUl()) builder.withInnForUl(true);
+    /**
+     * Аннотация, скомпилированная один раз на запуск: разбор правил, настройка генераторов и ключ кэша
+     * уже вычислены, на каждый параметр остаётся только генерация. Неизменяем, разделяется потоками
+     * при параллельном запуске тестов.
+     */
+    private static final class ParameterTemplate {
+        final GenerationTemplate<?> generator;
+        /** Сид задан (или выведен для кэша): каждый параметр получает одну и ту же запись, как {@code build()}. */
+        final boolean fixedSeed;
+        final String cacheKey;
 
-        for (FieldInvalidation inv : annotation.invalidate()) {
-            builder.invalidate(List.of(inv.path()), InvalidDataType.valueOf(inv.type()));
+        private ParameterTemplate(GenerationTemplate<?> generator, boolean fixedSeed, String cacheKey) {
+            this.generator = generator;
+            this.fixedSeed = fixedSeed;
+            this.cacheKey = cacheKey;
         }
 
-        for (FixedListSize size : annotation.fixedListSizes()) {
-            builder.withFixedListSize(List.of(size.path()), size.size());
-        }
+        static ParameterTemplate compile(GenerateTestData annotation) {
+            // Создание билдера
+            CoreDataGenerator.Builder<?> builder = CoreDataGenerator.builder(annotation.value());
 
-        for (FieldLocale locale : annotation.fieldLocales()) {
-            builder.setFieldLocale(List.of(locale.path()), locale.locale());
-        }
+            // Применение параметров из аннотации
+            if (!annotation.locale().isEmpty()) builder.withLocale(annotation.locale());
+            if (annotation.onlyRequired()) builder.onlyRequired();
+            if (annotation.useRussianPassport()) builder.withRussianPassport(true);
+            if (annotation.useInnForUl()) builder.withInnForUl(true);
+
+            for (FieldInvalidation inv : annotation.invalidate()) {
+                builder.invalidate(List.of(inv.path()), InvalidDataType.valueOf(inv.type()));
+            }
+
+            for (FixedListSize size : annotation.fixedListSizes()) {
+                builder.withFixedListSize(List.of(size.path()), size.size());
+            }
 
-        return builder.build();
+            for (FieldLocale locale : annotation.fieldLocales()) {
+                builder.setFieldLocale(List.of(locale.path()), locale.locale());
+            }
+
+            boolean seeded = annotation.seed() != GenerateTestData.NO_SEED;
+            if (seeded) builder.withSeed(annotation.seed());
+            if (!annotation.cache()) return new ParameterTemplate(builder.template(), seeded, null);
+
+            String description = DatasetCache.describe(annotation);
+            long seed = seeded ? annotation.seed() : DatasetCache.derivedSeed(description);
+            builder.withSeed(seed);
+            return new ParameterTemplate(builder.template(), true, DatasetCache.key(description, seed));
+        }
     }
 }
@@ -0,0 +1,271 @@
+package org.example.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Генерирует {@code <Dto>Populator} для каждого DTO верхнего уровня, в котором есть поля с
+ * {@code @InvalidDataConfig} или {@code @TestListConfig}: создание экземпляра и прямые вызовы сеттеров
+ * без рефлексии и LambdaMetafactory. Сеттер вызывается, если он объявлен явно или его создаст Lombok
+ * ({@code @Data}/{@code @Setter}); иначе нефинальное непубличное поле присваивается напрямую.
+ * Остальные поля в популятор не попадают и заполняются рефлексией.
+ * <p>
+ * Процессор не зависит от классов проекта: аннотации сравниваются по имени.
+ */
+@SupportedAnnotationTypes({"org.example.config.InvalidDataConfig", "org.example.config.TestListConfig"})
+public class PopulatorProcessor extends AbstractProcessor {
+
+    private static final String POPULATOR_INTERFACE = "org.example.generator.DtoPopulator";
+    private static final String LOMBOK_ACCESSORS = "lombok.experimental.Accessors";
+
+    private final Set<String> generated = new LinkedHashSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        Set<TypeElement> dtos = new LinkedHashSet<>();
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element.getKind() == ElementKind.FIELD && element.getEnclosingElement() instanceof TypeElement type) {
+                    dtos.add(type);
+                }
+            }
+        }
+        for (TypeElement dto : dtos) {
+            if (isEligible(dto) && generated.add(dto.getQualifiedName().toString())) {
+                write(dto);
+            }
+        }
+        return false;
+    }
+
+    private boolean isEligible(TypeElement dto) {
+        if (dto.getKind() != ElementKind.CLASS || dto.getNestingKind() != NestingKind.TOP_LEVEL
+                || dto.getModifiers().contains(Modifier.ABSTRACT) || !dto.getTypeParameters().isEmpty()) {
+            return false;
+        }
+        List<ExecutableElement> constructors = ElementFilter.constructorsIn(dto.getEnclosedElements());
+        // конструктор по умолчанию тоже виден как элемент с модификаторами класса
+        return constructors.stream().anyMatch(c -> c.getParameters().isEmpty() && !c.getModifiers().contains(Modifier.PRIVATE));
+    }
+
+    private void write(TypeElement dto) {
+        String pkg = ((PackageElement) dto.getEnclosingElement()).getQualifiedName().toString();
+        String dtoName = dto.getSimpleName().toString();
+        String name = dtoName + "Populator";
+        List<Slot> slots = slots(dto);
+
+        StringBuilder src = new StringBuilder();
+        if (!pkg.isEmpty()) src.append("package ").append(pkg).append(";\n\n");
+        src.append("import java.util.List;\n\n");
+        src.append("/** Сгенерировано ").append(PopulatorProcessor.class.getSimpleName())
+                .append(" для {@link ").append(dtoName).append("}; не редактировать. */\n");
+        src.append("@javax.annotation.processing.Generated(\"").append(PopulatorProcessor.class.getName()).append("\")\n");
+        src.append("public final class ").append(name).append(" implements ").append(POPULATOR_INTERFACE)
+                .append('<').append(dtoName).append("> {\n\n");
+        src.append("    private static final List<String> FIELDS = List.of(");
+        for (int i = 0; i < slots.size(); i++) {
+            if (i > 0) src.append(", ");
+            src.append('"').append(slots.get(i).name).append('"');
+        }
+        src.append(");\n\n");
+        src.append("    @Override\n    public ").append(dtoName).append(" newInstance() {\n        return new ")
+                .append(dtoName).append("();\n    }\n\n");
+        src.append("    @Override\n    public List<String> fieldNames() {\n        return FIELDS;\n    }\n\n");
+
+        src.append("    @Override\n    @SuppressWarnings({\"unchecked\", \"rawtypes\"})\n    public void set(")
+                .append(dtoName).append(" target, int field, Object value) {\n        switch (field) {\n");
+        for (int i = 0; i < slots.size(); i++) {
+            Slot slot = slots.get(i);
+            src.append("            case ").append(i).append(" -> ")
+                    .append(slot.assign("(" + slot.boxedType + ") value")).append(";\n");
+        }
+        src.append("            default -> throw new IllegalArgumentException(\"Нет поля с индексом \" + field);\n");
+        src.append("        }\n    }\n");
+
+        appendPrimitive(src, dtoName, slots, "int", "setInt");
+        appendPrimitive(src, dtoName, slots, "long", "setLong");
+        appendPrimitive(src, dtoName, slots, "double", "setDouble");
+        src.append("}\n");
+
+        String qualified = pkg.isEmpty() ? name : pkg + "." + name;
+        try {
+            JavaFileObject file = processingEnv.getFiler().createSourceFile(qualified, dto);
+            try (Writer out = file.openWriter()) {
+                out.write(src.toString());
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Не удалось записать " + qualified + ": " + e, dto);
+        }
+    }
+
+    /** Перегрузка без упаковки для полей, объявленных примитивом этого типа. */
+    private static void appendPrimitive(StringBuilder src, String dtoName, List<Slot> slots, String primitive, String method) {
+        boolean any = slots.stream().anyMatch(s -> s.type.equals(primitive));
+        if (!any) return;
+        src.append("\n    @Override\n    public void ").append(method).append('(').append(dtoName)
+                .append(" target, int field, ").append(primitive).append(" value) {\n        switch (field) {\n");
+        for (int i = 0; i < slots.size(); i++) {
+            Slot slot = slots.get(i);
+            if (slot.type.equals(primitive)) {
+                src.append("            case ").append(i).append(" -> ").append(slot.assign("value")).append(";\n");
+            }
+        }
+        src.append("            default -> set(target, field, value);\n        }\n    }\n");
+    }
+
+    /**
+     * Поля, которые популятор умеет заполнять: через сеттер, видимый в модели элементов или гарантированно
+     * создаваемый Lombok, либо прямым присваиванием не-private поля. Остальные поля остаются рефлексии,
+     * чтобы сгенерированный код всегда компилировался.
+     */
+    private List<Slot> slots(TypeElement dto) {
+        String classSetters = lombokSetterAccess(dto);
+        boolean classAccessors = hasAnnotation(dto, LOMBOK_ACCESSORS)
+                || hasAnnotation(dto.getEnclosingElement(), LOMBOK_ACCESSORS);
+        List<Slot> slots = new ArrayList<>();
+        for (VariableElement field : ElementFilter.fieldsIn(dto.getEnclosedElements())) {
+            Set<Modifier> modifiers = field.getModifiers();
+            if (modifiers.contains(Modifier.STATIC) || modifiers.contains(Modifier.FINAL)) continue;
+            String name = field.getSimpleName().toString();
+            TypeMirror type = processingEnv.getTypeUtils().erasure(field.asType());
+            String setter = lombokSetterName(name, type);
+            String fieldSetters = lombokSetterAccess(field);
+            String access = fieldSetters != null ? fieldSetters : classSetters;
+            if (hasSetter(dto, setter, type)) {
+                slots.add(new Slot(name, type, "target." + setter + "(%s)"));
+            } else if ("PUBLIC".equals(access) && !classAccessors && !hasAnnotation(field, LOMBOK_ACCESSORS)
+                    && !hasMethodNamed(dto, setter)) {
+                // сеттер добавит Lombok: @Accessors (fluent/prefix) и закрытые сеттеры меняют имя или доступ
+                slots.add(new Slot(name, type, "target." + setter + "(%s)"));
+            } else if (!modifiers.contains(Modifier.PRIVATE)) {
+                slots.add(new Slot(name, type, "target." + name + " = %s"));
+            }
+        }
+        return slots;
+    }
+
+    /**
+     * Имя сеттера по правилам Lombok: {@code set} + имя с заглавной буквы, а у {@code boolean isActive}
+     * префикс {@code is} отбрасывается ({@code setActive}).
+     */
+    private static String lombokSetterName(String field, TypeMirror type) {
+        String base = field;
+        if (type.getKind() == TypeKind.BOOLEAN && field.length() > 2 && field.startsWith("is")
+                && Character.isUpperCase(field.charAt(2))) {
+            base = field.substring(2);
+        }
+        return "set" + Character.toUpperCase(base.charAt(0)) + base.substring(1);
+    }
+
+    /**
+     * Уровень доступа сеттеров Lombok на элементе ({@code PUBLIC}, {@code NONE}, ...) или {@code null},
+     * если там нет ни {@code @Setter}, ни (для класса) {@code @Data}.
+     */
+    private static String lombokSetterAccess(Element element) {
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            String annotation = ((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().toString();
+            if (annotation.equals("lombok.Setter")) {
+                for (var entry : mirror.getElementValues().entrySet()) {
+                    if (entry.getKey().getSimpleName().contentEquals("value")) {
+                        return entry.getValue().getValue().toString();
+                    }
+                }
+                return "PUBLIC";
+            }
+        }
+        return hasAnnotation(element, "lombok.Data") ? "PUBLIC" : null;
+    }
+
+    /** Lombok не создаёт сеттер, если в классе уже есть метод с таким именем (с любыми параметрами). */
+    private static boolean hasMethodNamed(TypeElement dto, String name) {
+        for (ExecutableElement method : ElementFilter.methodsIn(dto.getEnclosedElements())) {
+            if (method.getSimpleName().contentEquals(name)) return true;
+        }
+        return false;
+    }
+
+    private boolean hasSetter(TypeElement dto, String setter, TypeMirror type) {
+        for (ExecutableElement method : ElementFilter.methodsIn(dto.getEnclosedElements())) {
+            if (method.getSimpleName().contentEquals(setter) && method.getParameters().size() == 1
+                    && !method.getModifiers().contains(Modifier.PRIVATE) && !method.getModifiers().contains(Modifier.STATIC)
+                    && processingEnv.getTypeUtils().isSameType(
+                    processingEnv.getTypeUtils().erasure(method.getParameters().get(0).asType()), type)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** Имя стёртого типа без type-аннотаций ({@code @Email String} → {@code java.lang.String}). */
+    private String typeName(TypeMirror type) {
+        if (type.getKind().isPrimitive()) {
+            return type.getKind().name().toLowerCase(Locale.ROOT);
+        }
+        if (type instanceof ArrayType array) {
+            return typeName(processingEnv.getTypeUtils().erasure(array.getComponentType())) + "[]";
+        }
+        if (type.getKind() == TypeKind.DECLARED) {
+            return ((TypeElement) processingEnv.getTypeUtils().asElement(type)).getQualifiedName().toString();
+        }
+        return "Object";
+    }
+
+    private static boolean hasAnnotation(Element element, String qualifiedName) {
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            if (((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().contentEquals(qualifiedName)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private final class Slot {
+        final String name;
+        final String type;
+        final String boxedType;
+        final String assignment;
+
+        Slot(String name, TypeMirror type, String assignment) {
+            this.name = name;
+            this.type = typeName(type);
+            this.boxedType = type.getKind().isPrimitive()
+                    ? processingEnv.getTypeUtils().boxedClass(processingEnv.getTypeUtils().getPrimitiveType(type.getKind()))
+                    .getQualifiedName().toString()
+                    : this.type;
+            this.assignment = assignment;
+        }
+
+        String assign(String value) {
+            return String.format(assignment, value);
+        }
+    }
+}
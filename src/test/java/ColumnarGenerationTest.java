@@ -0,0 +1,73 @@
+import org.example.DTO.Address;
+import org.example.DTO.Customer;
+import org.example.config.InvalidDataConfig;
+import org.example.config.InvalidDataType;
+import org.example.generator.ColumnBatch;
+import org.example.generator.CoreDataGenerator;
+import org.example.generator.Path;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+class ColumnarGenerationTest {
+
+    public static class Broken {
+        @InvalidDataConfig(invalidDataTypes = {}, minLength = 3, maxLength = 10)
+        private String name;
+
+        public void setName(String name) {
+            throw new AssertionError("setName");
+        }
+    }
+
+    private static CoreDataGenerator.Builder<Customer> builder() {
+        return CoreDataGenerator.builder(Customer.class)
+                .withLocale("ru")
+                .withSeed(7)
+                .withFixedListSize(Path.of("addresses"), 3)
+                .invalidate(Path.of("addresses", "*", "street"), InvalidDataType.TOO_LONG)
+                .setValue(Path.of("addresses", "[1]", "city", "city"), "Moscow")
+                .setValue(Path.of("INN"), "7707083893");
+    }
+
+    @Test
+    void columnsHonorBuilderRules() {
+        ColumnBatch<Customer> batch = builder().buildColumns(200);
+
+        ColumnBatch.ListColumn addresses = (ColumnBatch.ListColumn) batch.column("addresses");
+        Object[] streets = ((ColumnBatch.ObjectColumn) batch.column("addresses[*].street")).values();
+        Object[] cities = ((ColumnBatch.ObjectColumn) batch.column("addresses[*].city.city")).values();
+        Assertions.assertInstanceOf(String[].class, streets);
+        Assertions.assertEquals(600, streets.length);
+        for (int row = 0; row < batch.size(); row++) {
+            Assertions.assertEquals(3, addresses.length(row));
+            Assertions.assertEquals("Moscow", cities[addresses.offsets()[row] + 1]);
+            Assertions.assertEquals("7707083893", batch.column("INN").get(row));
+        }
+        for (Object street : streets) {
+            Assertions.assertTrue(((String) street).length() > 10, (String) street);
+        }
+    }
+
+    @Test
+    void materializedRecordsMatchColumnsAndSeed() {
+        ColumnBatch<Customer> batch = builder().buildColumns(50);
+        List<Customer> customers = batch.materialize();
+
+        Assertions.assertEquals(CoreDataGenerator.toJson(customers), CoreDataGenerator.toJson(builder().buildColumns(50).materialize()));
+        Customer first = customers.get(0);
+        Address second = first.getAddresses().get(1);
+        Assertions.assertEquals("Moscow", second.getCity().getCity());
+        Assertions.assertEquals(batch.column("passport.number").get(0), first.getPassport().getNumber());
+        Assertions.assertEquals(batch.column("firstName").get(0), first.getFirstName());
+    }
+
+    @Test
+    void errorsFromDtoAreNotWrapped() {
+        ColumnBatch<Broken> batch = CoreDataGenerator.builder(Broken.class).withLocale("ru").withSeed(7).buildColumns(3);
+
+        AssertionError error = Assertions.assertThrows(AssertionError.class, batch::materialize);
+        Assertions.assertEquals("setName", error.getMessage());
+    }
+}
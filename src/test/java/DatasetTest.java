@@ -0,0 +1,61 @@
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.DTO.Customer;
+import org.example.generator.CoreDataGenerator;
+import org.example.generator.dataset.DatasetReader;
+import org.example.generator.dataset.RecordView;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+
+class DatasetTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private static CoreDataGenerator.Builder<Customer> builder() {
+        return CoreDataGenerator.builder(Customer.class).withLocale("ru").withSeed(11);
+    }
+
+    @Test
+    void readsRecordsByIndexWithoutDecodingWholeFile(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("customers.tdg");
+        List<Customer> expected = builder().buildList(5000);
+        Assertions.assertEquals(5000, builder().writeDataset(file, 5000));
+
+        try (DatasetReader reader = DatasetReader.open(file)) {
+            Assertions.assertEquals(5000, reader.size());
+            Assertions.assertEquals(Customer.class.getName(), reader.type());
+            for (int i : new int[]{4999, 0, 1234}) {
+                Customer c = expected.get(i);
+                RecordView view = reader.get(i);
+                Assertions.assertEquals(c.getINN(), view.getString("INN"));
+                Assertions.assertEquals(c.getCustomerId(), view.getInt("customerId"));
+                Assertions.assertEquals(c.getPassport().getSeries(), view.getRecord("passport").getString("series"));
+                Assertions.assertEquals(c.getAddresses().size(), view.getList("addresses").size());
+                Assertions.assertEquals(MAPPER.writeValueAsString(c),
+                        MAPPER.writeValueAsString(reader.read(i, Customer.class)));
+            }
+            Assertions.assertThrows(IllegalArgumentException.class, () -> reader.get(0).get("missing"));
+            Assertions.assertThrows(IndexOutOfBoundsException.class, () -> reader.get(5000));
+        }
+    }
+
+    @Test
+    void readsRecordsAcrossSmallSegments(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("customers.tdg");
+        List<Customer> expected = builder().buildList(2000);
+        builder().writeDataset(file, 2000);
+
+        System.setProperty("testdata.dataset.segmentBits", "16");
+        try (DatasetReader reader = DatasetReader.open(file)) {
+            for (int i = 0; i < 2000; i++) {
+                Assertions.assertEquals(MAPPER.writeValueAsString(expected.get(i)),
+                        MAPPER.writeValueAsString(reader.read(i, Customer.class)));
+            }
+        } finally {
+            System.clearProperty("testdata.dataset.segmentBits");
+        }
+    }
+}
@@ -0,0 +1,54 @@
+import org.example.DTO.Customer;
+import org.example.generator.CoreDataGenerator;
+import org.example.generator.sink.DelimitedFileSink;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+class DelimitedFileSinkTest {
+
+    private static final String NAME = "Иван,\"Грозный\"\n\\\t";
+
+    private static CoreDataGenerator.Builder<Customer> builder() {
+        return CoreDataGenerator.builder(Customer.class)
+                .withLocale("ru")
+                .withSeed(5)
+                .setValue(List.of("firstName"), NAME);
+    }
+
+    @Test
+    void writesCsvWithInlinedNestedColumns(@TempDir Path dir) throws Exception {
+        List<Customer> expected = builder().buildList(500);
+        try (DelimitedFileSink sink = new DelimitedFileSink(dir, DelimitedFileSink.Format.CSV)) {
+            builder().buildInto(500, sink);
+        }
+
+        String customers = Files.readString(dir.resolve("customer.csv"), StandardCharsets.UTF_8);
+        List<String> header = Arrays.asList(customers.substring(0, customers.indexOf('\n')).split(","));
+        Assertions.assertTrue(header.containsAll(List.of("id", "first_name", "inn", "passport_series",
+                "addresses_none_list_city_city")), header.toString());
+        Assertions.assertTrue(customers.contains("1,\"Иван,\"\"Грозный\"\"\n\\\t\","));
+        Assertions.assertTrue(customers.contains("," + expected.get(499).getINN() + ","));
+
+        long addresses = expected.stream().mapToLong(c -> c.getAddresses().size()).sum();
+        Assertions.assertEquals(addresses + 1, Files.readAllLines(dir.resolve("customer_addresses.csv")).size());
+        Assertions.assertFalse(Files.exists(dir.resolve("customer_passport.csv")));
+    }
+
+    @Test
+    void writesPostgresCopyText(@TempDir Path dir) throws Exception {
+        try (DelimitedFileSink sink = new DelimitedFileSink(dir, DelimitedFileSink.Format.COPY_TEXT)) {
+            builder().buildInto(10, sink);
+        }
+
+        List<String> lines = Files.readAllLines(dir.resolve("customer.tsv"), StandardCharsets.UTF_8);
+        Assertions.assertEquals(10, lines.size());
+        Assertions.assertTrue(lines.get(0).startsWith("1\tИван,\"Грозный\"\\n\\\\\\t\t"), lines.get(0));
+    }
+}
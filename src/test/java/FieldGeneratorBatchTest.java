@@ -0,0 +1,102 @@
+import com.github.javafaker.Faker;
+import org.example.config.InvalidDataConfig;
+import org.example.config.InvalidDataType;
+import org.example.generator.RandomSource;
+import org.example.generator.dataGenerator.impl.DefaultFieldGenerator;
+import org.example.generator.dataGenerator.impl.other.AmountFieldGenerator;
+import org.example.generator.dataGenerator.impl.other.DaysCountFieldGenerator;
+import org.example.generator.dataGenerator.impl.person.InnFieldGenerator;
+import org.example.generator.dataGenerator.repository.FieldGenerator;
+import org.example.generator.dataGenerator.repository.GeneratorRegistry;
+import org.example.generator.dataGenerator.repository.ValueSink;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+class FieldGeneratorBatchTest {
+
+    @SuppressWarnings("unused")
+    static class Holder {
+        @InvalidDataConfig(invalidDataTypes = {})
+        String inn;
+        @InvalidDataConfig(invalidDataTypes = {}, minLength = 1, maxLength = 30)
+        int daysCount;
+        @InvalidDataConfig(invalidDataTypes = {}, minLength = 10, maxLength = 20)
+        BigDecimal amount;
+    }
+
+    private static RandomSource random(long seed) {
+        RandomSource random = RandomSource.splittable();
+        random.reseed(seed);
+        return random;
+    }
+
+    @Test
+    void batchMatchesSingleValues() throws Exception {
+        Field field = Holder.class.getDeclaredField("inn");
+        InvalidDataConfig cfg = field.getAnnotation(InvalidDataConfig.class);
+        FieldGenerator gen = new InnFieldGenerator();
+
+        List<Object> batch = new ArrayList<>();
+        gen.generateValidBatch(field, null, cfg, random(5), 20, batch::add);
+        RandomSource single = random(5);
+        for (Object value : batch) {
+            Assertions.assertEquals(gen.generateValid(field, null, cfg, single), value);
+        }
+    }
+
+    @Test
+    void daysCountUsesPrimitiveSink() throws Exception {
+        Field field = Holder.class.getDeclaredField("daysCount");
+        int[] column = new int[100];
+        int[] size = {0};
+        new DaysCountFieldGenerator().generateValidBatch(field, null, field.getAnnotation(InvalidDataConfig.class),
+                random(9), column.length, new ValueSink() {
+                    public void accept(Object value) { Assertions.fail("boxed value " + value); }
+                    public void acceptInt(int value) { column[size[0]++] = value; }
+                });
+
+        Assertions.assertEquals(column.length, size[0]);
+        for (int days : column) Assertions.assertTrue(days >= 1 && days < 30, String.valueOf(days));
+    }
+
+    @Test
+    void amountsHaveTheSameScaleAndRangeOnEveryPath() throws Exception {
+        Field field = Holder.class.getDeclaredField("amount");
+        InvalidDataConfig cfg = field.getAnnotation(InvalidDataConfig.class);
+        FieldGenerator gen = new AmountFieldGenerator();
+        Faker faker = new Faker(new Random(3));
+        List<Object> values = new ArrayList<>();
+        RandomSource random = random(3);
+        for (int i = 0; i < 200; i++) {
+            values.add(gen.generateValid(field, faker, cfg));
+            values.add(gen.generateValid(field, faker, cfg, random));
+        }
+        gen.generateValidBatch(field, faker, cfg, random, 200, values::add);
+
+        for (Object value : values) {
+            BigDecimal amount = (BigDecimal) value;
+            Assertions.assertEquals(2, amount.scale(), amount.toPlainString());
+            Assertions.assertTrue(amount.compareTo(BigDecimal.TEN) >= 0 && amount.compareTo(BigDecimal.valueOf(20)) <= 0,
+                    amount.toPlainString());
+        }
+        BigDecimal tooShort = (BigDecimal) gen.generateInvalid(field, cfg, InvalidDataType.TOO_SHORT, faker);
+        BigDecimal tooLong = (BigDecimal) gen.generateInvalid(field, cfg, InvalidDataType.TOO_LONG, faker);
+        Assertions.assertEquals(2, tooShort.scale());
+        Assertions.assertTrue(tooShort.compareTo(BigDecimal.valueOf(9)) <= 0, tooShort.toPlainString());
+        Assertions.assertTrue(tooLong.compareTo(BigDecimal.valueOf(21)) >= 0, tooLong.toPlainString());
+    }
+
+    @Test
+    void fallbackGeneratorIsRegisteredOnceAndLast() {
+        List<Class<? extends FieldGenerator>> types = GeneratorRegistry.getInstance().generatorTypes();
+
+        Assertions.assertEquals(1, types.stream().filter(DefaultFieldGenerator.class::equals).count(), types.toString());
+        Assertions.assertEquals(DefaultFieldGenerator.class, types.get(types.size() - 1));
+    }
+}
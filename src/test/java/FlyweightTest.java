@@ -0,0 +1,124 @@
+import org.example.DTO.Address;
+import org.example.DTO.City;
+import org.example.DTO.Customer;
+import org.example.generator.CoreDataGenerator;
+import org.example.generator.GenerationStats;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+class FlyweightTest {
+
+    private static CoreDataGenerator.Builder<Customer> builder() {
+        return CoreDataGenerator.builder(Customer.class)
+                .withLocale("ru")
+                .withSeed(11)
+                .withFlyweight(City.class)
+                .withStats();
+    }
+
+    @Test
+    void sharesCitiesAndDictionaryStrings() {
+        CoreDataGenerator.Builder<Customer> builder = builder();
+        List<Customer> customers = builder.buildList(2_000);
+
+        Set<City> cities = Collections.newSetFromMap(new IdentityHashMap<>());
+        Map<String, String> streets = new HashMap<>();
+        for (Customer customer : customers) {
+            for (Address address : customer.getAddresses()) {
+                cities.add(address.getCity());
+                String street = address.getStreet();
+                Assertions.assertSame(streets.computeIfAbsent(street, s -> s), street);
+            }
+        }
+        Assertions.assertTrue(cities.size() <= 64, "cities: " + cities.size());
+
+        GenerationStats.FlyweightSavings savings = builder.stats().getFlyweight();
+        Assertions.assertTrue(savings.getSharedDtos() > 0);
+        Assertions.assertTrue(savings.totalBytes() > 0);
+    }
+
+    @Test
+    void flyweightGenerationIsReproducible() {
+        Assertions.assertEquals(CoreDataGenerator.toJson(builder().buildList(200)),
+                CoreDataGenerator.toJson(builder().parallel(4).buildList(200)));
+    }
+
+    /**
+     * Без {@code withStats()} генерация не загружает {@code StatsCollector}, а значит не включает учёт аллокаций
+     * потоков во всей JVM. Запуск идёт в отдельном загрузчике, чтобы статическая инициализация не зависела от
+     * других тестов.
+     */
+    @Test
+    void flyweightWithoutStatsLeavesAllocationAccountingAlone() throws Exception {
+        if (!(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threads)
+                || !threads.isThreadAllocatedMemorySupported()) {
+            return;
+        }
+        boolean enabled = threads.isThreadAllocatedMemoryEnabled();
+        Thread thread = Thread.currentThread();
+        ClassLoader contextLoader = thread.getContextClassLoader();
+        threads.setThreadAllocatedMemoryEnabled(false);
+        try (IsolatedLoader loader = new IsolatedLoader()) {
+            thread.setContextClassLoader(loader);
+            Runnable run = (Runnable) loader.loadClass(FlyweightOnlyRun.class.getName())
+                    .getDeclaredConstructor().newInstance();
+            run.run();
+            Assertions.assertNotNull(loader.loaded("org.example.generator.Flyweight"));
+            Assertions.assertNull(loader.loaded("org.example.generator.StatsCollector"));
+            Assertions.assertFalse(threads.isThreadAllocatedMemoryEnabled());
+        } finally {
+            thread.setContextClassLoader(contextLoader);
+            threads.setThreadAllocatedMemoryEnabled(enabled);
+        }
+    }
+
+    public static final class FlyweightOnlyRun implements Runnable {
+        @Override
+        public void run() {
+            List<Customer> customers = CoreDataGenerator.builder(Customer.class)
+                    .withLocale("ru")
+                    .withSeed(11)
+                    .withFlyweight(City.class)
+                    .buildList(50);
+            Assertions.assertEquals(50, customers.size());
+        }
+    }
+
+    /** Заново загружает классы генератора и {@link FlyweightOnlyRun}, остальное берёт у родителя. */
+    private static final class IsolatedLoader extends URLClassLoader {
+
+        IsolatedLoader() {
+            super(new URL[]{
+                    CoreDataGenerator.class.getProtectionDomain().getCodeSource().getLocation(),
+                    FlyweightTest.class.getProtectionDomain().getCodeSource().getLocation()
+            }, FlyweightTest.class.getClassLoader());
+        }
+
+        Class<?> loaded(String name) {
+            return findLoadedClass(name);
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            if (!name.startsWith("org.example.") && !name.equals(FlyweightOnlyRun.class.getName())) {
+                return super.loadClass(name, resolve);
+            }
+            synchronized (getClassLoadingLock(name)) {
+                Class<?> type = findLoadedClass(name);
+                if (type == null) type = findClass(name);
+                if (resolve) resolveClass(type);
+                return type;
+            }
+        }
+    }
+}
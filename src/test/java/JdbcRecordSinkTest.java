@@ -0,0 +1,75 @@
+import org.example.DTO.Address;
+import org.example.DTO.Customer;
+import org.example.generator.CoreDataGenerator;
+import org.example.generator.RecordSink;
+import org.example.generator.SinkTable;
+import org.example.generator.sink.JdbcRecordSink;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+class JdbcRecordSinkTest {
+
+    private static CoreDataGenerator.Builder<Customer> builder() {
+        return CoreDataGenerator.builder(Customer.class).withLocale("ru").withSeed(21);
+    }
+
+    private static long count(Statement st, String sql) throws SQLException {
+        try (ResultSet rs = st.executeQuery(sql)) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    @Test
+    void insertsFlattenedGraphWithForeignKeys() throws Exception {
+        List<Customer> expected = builder().buildList(2_500);
+        long addresses = expected.stream().mapToLong(c -> c.getAddresses().size()).sum();
+
+        try (Connection connection = DriverManager.getConnection("jdbc:h2:mem:sink;DB_CLOSE_DELAY=-1");
+             JdbcRecordSink sink = new JdbcRecordSink(connection).batchSize(100).createTables(true)) {
+            Assertions.assertEquals(2_500, builder().parallel(2).buildInto(2_500, sink));
+
+            try (Statement st = connection.createStatement()) {
+                Assertions.assertEquals(2_500, count(st, "SELECT COUNT(*) FROM customer"));
+                Assertions.assertEquals(addresses, count(st, "SELECT COUNT(*) FROM customer_addresses"));
+                Assertions.assertEquals(addresses, count(st, "SELECT COUNT(*) FROM customer_addresses_city"));
+                Assertions.assertEquals(0, count(st, "SELECT COUNT(*) FROM customer_addresses a "
+                        + "LEFT JOIN customer c ON a.parent_id = c.id WHERE c.id IS NULL"));
+
+                Address first = expected.get(0).getAddresses().get(0);
+                try (ResultSet rs = st.executeQuery("SELECT c.inn, a.street, ci.city FROM customer c "
+                        + "JOIN customer_addresses a ON a.parent_id = c.id AND a.idx = 0 "
+                        + "JOIN customer_addresses_city ci ON ci.parent_id = a.id WHERE c.id = 1")) {
+                    Assertions.assertTrue(rs.next());
+                    Assertions.assertEquals(expected.get(0).getINN(), rs.getString(1));
+                    Assertions.assertEquals(first.getStreet(), rs.getString(2));
+                    Assertions.assertEquals(first.getCity().getCity(), rs.getString(3));
+                }
+            }
+        }
+    }
+
+    @Test
+    void sinkFailureStopsGeneration() {
+        RecordSink failing = new RecordSink() {
+            @Override
+            public void open(List<SinkTable> tables) {
+            }
+
+            @Override
+            public void accept(SinkTable table, Object[] row) {
+                if ((long) row[0] == 5_000) throw new IllegalStateException("disk full");
+            }
+        };
+        IllegalStateException e = Assertions.assertThrows(IllegalStateException.class,
+                () -> builder().buildInto(1_000_000, failing));
+        Assertions.assertEquals("disk full", e.getMessage());
+    }
+}
@@ -0,0 +1,43 @@
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordingFile;
+import org.example.DTO.Customer;
+import org.example.generator.CoreDataGenerator;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+class JfrEventsTest {
+
+    @Test
+    void generationPhasesAreRecorded() throws Exception {
+        Path file = Files.createTempFile("testdata", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("org.example.testdata.BuilderSetup");
+            recording.enable("org.example.testdata.List");
+            recording.enable("org.example.testdata.Record").withThreshold(java.time.Duration.ZERO);
+            recording.enable("org.example.testdata.Value");
+            recording.enable("org.example.testdata.JsonSerialization");
+            recording.start();
+
+            List<Customer> customers = CoreDataGenerator.builder(Customer.class).withLocale("ru").withSeed(1).buildList(3);
+            CoreDataGenerator.toJson(customers);
+
+            recording.stop();
+            recording.dump(file);
+        }
+        Map<String, Long> counts = RecordingFile.readAllEvents(file).stream()
+                .collect(Collectors.groupingBy(e -> e.getEventType().getName(), Collectors.counting()));
+        Files.deleteIfExists(file);
+
+        Assertions.assertEquals(1L, counts.get("org.example.testdata.BuilderSetup"));
+        Assertions.assertEquals(1L, counts.get("org.example.testdata.List"));
+        Assertions.assertEquals(3L, counts.get("org.example.testdata.Record"));
+        Assertions.assertEquals(1L, counts.get("org.example.testdata.JsonSerialization"));
+        Assertions.assertTrue(counts.getOrDefault("org.example.testdata.Value", 0L) > 3);
+    }
+}
@@ -0,0 +1,65 @@
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.DTO.Customer;
+import org.example.generator.CoreDataGenerator;
+import org.example.generator.JsonFormat;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+class JsonStreamingTest {
+
+    private static final int COUNT = 25;
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    /** Запоминает close(), чтобы проверить, что writeJson не закрывает чужой поток. */
+    private static final class TrackingStream extends ByteArrayOutputStream {
+        boolean closed;
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+
+    private static CoreDataGenerator.Builder<Customer> builder() {
+        return CoreDataGenerator.builder(Customer.class).withLocale("ru").withSeed(21);
+    }
+
+    @Test
+    void arrayContainsTheSameRecordsAsBuildList() throws Exception {
+        TrackingStream out = new TrackingStream();
+
+        Assertions.assertEquals(COUNT, builder().writeJson(out, COUNT, JsonFormat.ARRAY));
+
+        Assertions.assertFalse(out.closed);
+        List<Customer> parsed = MAPPER.readValue(out.toByteArray(), new TypeReference<List<Customer>>() {
+        });
+        Assertions.assertEquals(builder().buildList(COUNT), parsed);
+    }
+
+    @Test
+    void ndjsonWritesOneCompactLinePerRecord() throws Exception {
+        TrackingStream out = new TrackingStream();
+
+        Assertions.assertEquals(COUNT, builder().writeJson(out, COUNT, JsonFormat.NDJSON));
+
+        Assertions.assertFalse(out.closed);
+        String text = out.toString(StandardCharsets.UTF_8);
+        Assertions.assertTrue(text.endsWith("\n"));
+        String[] lines = text.split("\n", -1);
+        Assertions.assertEquals(COUNT + 1, lines.length);
+        Assertions.assertEquals("", lines[COUNT]);
+        List<Customer> parsed = new ArrayList<>();
+        for (int i = 0; i < COUNT; i++) {
+            Assertions.assertTrue(lines[i].startsWith("{") && lines[i].endsWith("}"), lines[i]);
+            Assertions.assertEquals(MAPPER.writeValueAsString(MAPPER.readTree(lines[i])), lines[i]);
+            parsed.add(MAPPER.readValue(lines[i], Customer.class));
+        }
+        Assertions.assertEquals(builder().buildList(COUNT), parsed);
+    }
+}
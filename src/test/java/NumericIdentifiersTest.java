@@ -0,0 +1,43 @@
+import org.example.generator.dataGenerator.identifier.IdentifierBlock;
+import org.example.generator.dataGenerator.identifier.IdentifierFormat;
+import org.example.generator.dataGenerator.identifier.NumericIdentifiers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+class NumericIdentifiersTest {
+
+    private static int check(String digits, int... coef) {
+        int sum = 0;
+        for (int i = 0; i < coef.length; i++) sum += (digits.charAt(i) - '0') * coef[i];
+        return sum % 11 % 10;
+    }
+
+    @Test
+    void innCheckDigitsAreValid() {
+        SplittableRandom random = new SplittableRandom(7);
+        for (int i = 0; i < 1000; i++) {
+            String inn10 = NumericIdentifiers.next(IdentifierFormat.INN_10, random);
+            Assertions.assertTrue(inn10.matches("\\d{10}"), inn10);
+            Assertions.assertEquals(check(inn10, 2, 4, 10, 3, 5, 9, 4, 6, 8), inn10.charAt(9) - '0');
+
+            String inn12 = NumericIdentifiers.next(IdentifierFormat.INN_12, random);
+            Assertions.assertTrue(inn12.matches("\\d{12}"), inn12);
+            Assertions.assertEquals(check(inn12, 7, 2, 4, 10, 3, 5, 9, 4, 6, 8), inn12.charAt(10) - '0');
+            Assertions.assertEquals(check(inn12, 3, 7, 2, 4, 10, 3, 5, 9, 4, 6, 8), inn12.charAt(11) - '0');
+        }
+    }
+
+    @Test
+    void blockMatchesSingleValues() {
+        IdentifierBlock block = NumericIdentifiers.fill(IdentifierFormat.RU_PASSPORT_CODE, new SplittableRandom(3), 50);
+        SplittableRandom random = new SplittableRandom(3);
+        for (int i = 0; i < block.count(); i++) {
+            String code = NumericIdentifiers.next(IdentifierFormat.RU_PASSPORT_CODE, random);
+            Assertions.assertTrue(code.matches("\\d{3}-\\d{3}"), code);
+            Assertions.assertEquals(code, block.get(i));
+            Assertions.assertEquals(code, block.view(i).toString());
+        }
+    }
+}
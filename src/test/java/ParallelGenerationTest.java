@@ -0,0 +1,86 @@
+import org.example.DTO.Customer;
+import org.example.config.InvalidDataType;
+import org.example.generator.CoreDataGenerator;
+import org.example.generator.GenerationStats;
+import org.example.generator.GenerationTemplate;
+import org.example.generator.Path;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+class ParallelGenerationTest {
+
+    private static CoreDataGenerator.Builder<Customer> builder() {
+        return CoreDataGenerator.builder(Customer.class)
+                .withLocale("ru")
+                .withSeed(42)
+                .invalidate(Path.of("addresses", "*", "street"), InvalidDataType.TOO_LONG)
+                .setValue(Path.of("addresses", "[1]", "city", "city"), "Moscow");
+    }
+
+    @Test
+    void sameSeedGivesSameDataRegardlessOfThreadCount() {
+        List<Customer> sequential = builder().buildList(300);
+        List<Customer> parallel = builder().buildList(300, 8);
+
+        Assertions.assertEquals(CoreDataGenerator.toJson(sequential), CoreDataGenerator.toJson(parallel));
+    }
+
+    @Test
+    void lazyStreamMatchesBuildList() {
+        List<Customer> list = builder().buildList(300);
+        List<Customer> streamed = builder().stream().parallel().limit(300).toList();
+
+        Assertions.assertEquals(CoreDataGenerator.toJson(list), CoreDataGenerator.toJson(streamed));
+    }
+
+    @Test
+    void templateHandsOutEachIndexOnceAcrossThreads() throws Exception {
+        GenerationTemplate<Customer> template = builder().template();
+        List<Customer> expected = builder().buildList(400);
+        Set<String> seen = ConcurrentHashMap.newKeySet();
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                futures.add(pool.submit(() -> {
+                    for (int i = 0; i < 100; i++) seen.add(CoreDataGenerator.toJson(template.next()));
+                }));
+            }
+            for (Future<?> f : futures) f.get();
+        } finally {
+            pool.shutdown();
+        }
+
+        Assertions.assertEquals(expected.stream().map(CoreDataGenerator::toJson).collect(Collectors.toSet()), seen);
+        Assertions.assertEquals(CoreDataGenerator.toJson(builder().build()), CoreDataGenerator.toJson(template.get(0)));
+    }
+
+    @Test
+    void recordsDifferWithinOneRun() {
+        List<Customer> customers = builder().parallel(4).buildList(2);
+
+        Assertions.assertNotEquals(CoreDataGenerator.toJson(customers.get(0)), CoreDataGenerator.toJson(customers.get(1)));
+    }
+
+    @Test
+    void statsDoNotChangeDataAndCountEveryRecord() {
+        CoreDataGenerator.Builder<Customer> withStats = builder().withStats();
+        List<Customer> customers = withStats.buildList(50, 4);
+        GenerationStats stats = withStats.stats();
+
+        Assertions.assertEquals(CoreDataGenerator.toJson(builder().buildList(50)), CoreDataGenerator.toJson(customers));
+        Assertions.assertEquals(50, stats.getByPath().get("INN").getCalls());
+        Assertions.assertTrue(stats.getByGenerator().containsKey("InnFieldGenerator"));
+        Assertions.assertTrue(stats.getByPath().containsKey("addresses[*].city.city"));
+        Assertions.assertSame(GenerationStats.EMPTY, builder().stats());
+    }
+}
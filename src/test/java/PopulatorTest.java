@@ -0,0 +1,99 @@
+import org.example.DTO.Customer;
+import org.example.generator.CoreDataGenerator;
+import org.example.generator.DtoPopulator;
+import org.example.processor.PopulatorProcessor;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.annotation.processing.Processor;
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import java.io.StringWriter;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+class PopulatorTest {
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void generatedPopulatorSetsFieldsDirectly() throws Exception {
+        DtoPopulator<Customer> populator = (DtoPopulator<Customer>)
+                Class.forName("org.example.DTO.CustomerPopulator").getDeclaredConstructor().newInstance();
+
+        Customer customer = populator.newInstance();
+        populator.set(customer, populator.fieldNames().indexOf("INN"), "7707083893");
+        populator.set(customer, populator.fieldNames().indexOf("customerId"), 42);
+
+        Assertions.assertEquals("7707083893", customer.getINN());
+        Assertions.assertEquals(42, customer.getCustomerId());
+    }
+
+    @Test
+    void generationThroughPopulatorIsReproducible() {
+        Customer first = CoreDataGenerator.builder(Customer.class).withLocale("ru").withSeed(7).build();
+        Customer second = CoreDataGenerator.builder(Customer.class).withLocale("ru").withSeed(7).build();
+
+        Assertions.assertEquals(CoreDataGenerator.toJson(first), CoreDataGenerator.toJson(second));
+        Assertions.assertNotNull(first.getFirstName());
+    }
+
+    private static final String LOMBOK_DTO = """
+            package lombokdto;
+
+            import lombok.AccessLevel;
+            import lombok.Data;
+            import lombok.Setter;
+            import lombok.experimental.Accessors;
+            import org.example.config.InvalidDataConfig;
+
+            @Data
+            public class Account {
+                @InvalidDataConfig(invalidDataTypes = {})
+                private boolean isActive;
+                @Accessors(fluent = true)
+                @InvalidDataConfig(invalidDataTypes = {})
+                private String owner;
+                @Setter(AccessLevel.PRIVATE)
+                @InvalidDataConfig(invalidDataTypes = {})
+                private String code;
+                @InvalidDataConfig(invalidDataTypes = {})
+                private Boolean isClosed;
+            }
+            """;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void populatorFollowsLombokSetterNames(@TempDir Path dir) throws Exception {
+        Path source = dir.resolve("src/lombokdto/Account.java");
+        Files.createDirectories(source.getParent());
+        Files.writeString(source, LOMBOK_DTO);
+        Path classes = Files.createDirectories(dir.resolve("classes"));
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        StringWriter diagnostics = new StringWriter();
+        Class<?> lombok = Class.forName("lombok.launch.AnnotationProcessorHider$AnnotationProcessor");
+        var lombokCtor = lombok.getDeclaredConstructor();
+        lombokCtor.setAccessible(true);
+        JavaCompiler.CompilationTask task = compiler.getTask(diagnostics, null, null,
+                List.of("-d", classes.toString(), "-classpath", System.getProperty("java.class.path"),
+                        "-s", Files.createDirectories(dir.resolve("generated")).toString()),
+                null, compiler.getStandardFileManager(null, null, null).getJavaFileObjects(source.toFile()));
+        task.setProcessors(List.of((Processor) lombokCtor.newInstance(), new PopulatorProcessor()));
+        Assertions.assertTrue(task.call(), diagnostics.toString());
+
+        String generated = Files.readString(dir.resolve("generated/lombokdto/AccountPopulator.java"));
+        Assertions.assertTrue(generated.contains("target.setActive("), generated);
+        Assertions.assertFalse(generated.contains("setOwner") || generated.contains("setCode"), generated);
+        try (URLClassLoader loader = new URLClassLoader(new java.net.URL[]{classes.toUri().toURL()},
+                PopulatorTest.class.getClassLoader())) {
+            DtoPopulator<Object> populator = (DtoPopulator<Object>) loader.loadClass("lombokdto.AccountPopulator")
+                    .getDeclaredConstructor().newInstance();
+            Object account = populator.newInstance();
+            populator.set(account, populator.fieldNames().indexOf("isActive"), true);
+            Assertions.assertEquals(Boolean.TRUE, account.getClass().getMethod("isActive").invoke(account));
+        }
+    }
+}
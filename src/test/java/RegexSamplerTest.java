@@ -0,0 +1,85 @@
+import org.example.config.InvalidDataConfig;
+import org.example.generator.CoreDataGenerator;
+import org.example.generator.dataGenerator.regex.RegexSampler;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import javax.validation.constraints.Pattern;
+import java.util.SplittableRandom;
+
+class RegexSamplerTest {
+
+    public static class Patterned {
+        @Pattern(regexp = "\\p{L}+")
+        @InvalidDataConfig(invalidDataTypes = {}, minLength = 3, maxLength = 12)
+        String letters;
+
+        @Pattern(regexp = "(?i)[a-z]+")
+        @InvalidDataConfig(invalidDataTypes = {}, minLength = 3, maxLength = 12)
+        String caseless;
+
+        @Pattern(regexp = "(a)\\1")
+        @InvalidDataConfig(invalidDataTypes = {}, minLength = 3, maxLength = 12)
+        String backReference;
+    }
+
+    @Test
+    void patternFieldsAreGeneratedForCommonJavaSyntax() {
+        for (Patterned p : CoreDataGenerator.builder(Patterned.class).withLocale("ru").withSeed(2).buildList(50)) {
+            Assertions.assertTrue(p.letters.matches("\\p{L}+"), p.letters);
+            Assertions.assertTrue(p.caseless.matches("(?i)[a-z]+"), p.caseless);
+            Assertions.assertNotNull(p.backReference);
+        }
+    }
+
+    @Test
+    void samplesMatchTheirPattern() {
+        String[] patterns = {
+                "^[A-Za-z]+$", "\\d{3}-\\d{3}", "[a-z]{2}-[a-z]{2}-\\d{3}", "(?:ab|c[^a-z0-9]){2,4}x?",
+                "\\w+@(mail|ya)\\.ru", "[\\d\\-_]{5}", "\\Q.*\\E\\s\\S{1,3}", "[^\\W_]{3}", "(?<code>[A-F\\x30-\\x39]{6})",
+                "\\p{L}+", "(?i)[a-z]+", "[\\p{Lu}\\d]{2}\\P{L}", "(?i:ab)c\\b", "a\\bb|cd", "[^а-я]{4}"
+        };
+        SplittableRandom random = new SplittableRandom(11);
+        for (String regex : patterns) {
+            RegexSampler sampler = RegexSampler.of(regex);
+            for (int i = 0; i < 200; i++) {
+                String value = sampler.sample(random);
+                Assertions.assertTrue(value.matches(regex), regex + " -> " + value);
+            }
+        }
+    }
+
+    @Test
+    void octalEscapesAreDecoded() {
+        String[] patterns = {"\\012", "x\\07y", "[\\0101-\\0132]{3}", "\\0377", "\\0400", "[^\\00-\\057]"};
+        SplittableRandom random = new SplittableRandom(13);
+        for (String regex : patterns) {
+            RegexSampler sampler = RegexSampler.of(regex);
+            Assertions.assertTrue(sampler.isSupported(), regex);
+            for (int i = 0; i < 50; i++) {
+                String value = sampler.sample(random);
+                Assertions.assertTrue(value.matches(regex), regex + " -> " + value);
+            }
+        }
+        Assertions.assertEquals("\n", RegexSampler.of("\\012").sample(random));
+        Assertions.assertEquals(" 0", RegexSampler.of("\\0400").sample(random));
+    }
+
+    @Test
+    void compiledOnceAndLengthBounded() {
+        Assertions.assertSame(RegexSampler.of("[a-z]+"), RegexSampler.of("[a-z]+"));
+        String value = RegexSampler.of("[a-z]+").sample(new SplittableRandom(5), 3, 4);
+        Assertions.assertTrue(value.length() >= 3 && value.length() <= 4, value);
+    }
+
+    @Test
+    void unsupportedSyntaxFallsBackInsteadOfThrowing() {
+        for (String regex : new String[]{"(a)\\1", "(?=a)a", "\\p{InGreek}"}) {
+            RegexSampler sampler = RegexSampler.of(regex);
+            Assertions.assertFalse(sampler.isSupported(), regex);
+            Assertions.assertNull(sampler.sample(new SplittableRandom(1)), regex);
+        }
+        Assertions.assertNull(RegexSampler.of("a\\ba").sample(new SplittableRandom(1)));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> RegexSampler.of("(a"));
+    }
+}
@@ -0,0 +1,41 @@
+import org.example.config.InvalidDataConfig;
+import org.example.generator.CoreDataGenerator;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.Serializable;
+
+class StaticFieldDtoTest {
+
+    public static class Account implements Serializable {
+        private static final long serialVersionUID = 1L;
+        public static final String PREFIX = "ACC";
+
+        @InvalidDataConfig(invalidDataTypes = {}, minLength = 3, maxLength = 10)
+        private String name;
+    }
+
+    public static class Broken {
+        @InvalidDataConfig(invalidDataTypes = {}, minLength = 3, maxLength = 10)
+        private String name;
+
+        public void setName(String name) {
+            throw new AssertionError("setName");
+        }
+    }
+
+    @Test
+    void staticFieldsAreIgnored() {
+        Account account = CoreDataGenerator.builder(Account.class).withLocale("ru").withSeed(3).build();
+
+        Assertions.assertNotNull(account.name);
+        Assertions.assertEquals("ACC", Account.PREFIX);
+    }
+
+    @Test
+    void errorsFromDtoAreNotWrapped() {
+        AssertionError error = Assertions.assertThrows(AssertionError.class,
+                () -> CoreDataGenerator.builder(Broken.class).withLocale("ru").withSeed(3).build());
+        Assertions.assertEquals("setName", error.getMessage());
+    }
+}
@@ -0,0 +1,40 @@
+import org.example.DTO.Customer;
+import org.example.generator.CoreDataGenerator;
+import org.example.integration.FieldInvalidation;
+import org.example.integration.GenerateTestData;
+import org.example.integration.TestDataExtension;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+@ExtendWith(TestDataExtension.class)
+class TestDataCacheTest {
+
+    @Test
+    void cachedValueMatchesSeededGeneration(
+            @GenerateTestData(value = Customer.class, locale = "ru", seed = 42, cache = true) Customer generated,
+            @GenerateTestData(value = Customer.class, locale = "ru", seed = 42, cache = true) Customer cached) throws Exception {
+        String expected = CoreDataGenerator.toJson(
+                CoreDataGenerator.builder(Customer.class).withLocale("ru").withSeed(42).build());
+        Assertions.assertEquals(expected, CoreDataGenerator.toJson(generated));
+        Assertions.assertEquals(expected, CoreDataGenerator.toJson(cached));
+        try (Stream<Path> files = Files.list(Path.of("build/testdata-cache"))) {
+            Assertions.assertTrue(files.anyMatch(p -> p.toString().endsWith(".tdg")));
+        }
+    }
+
+    @Test
+    void seedIsDerivedFromConfigurationWhenCached(
+            @GenerateTestData(value = Customer.class, locale = "ru", cache = true,
+                    invalidate = @FieldInvalidation(path = {"passport", "number"}, type = "TOO_SHORT")) Customer first,
+            @GenerateTestData(value = Customer.class, locale = "ru", cache = true,
+                    invalidate = @FieldInvalidation(path = {"passport", "number"}, type = "TOO_SHORT")) Customer second,
+            @GenerateTestData(value = Customer.class, locale = "ru", cache = true) Customer other) {
+        Assertions.assertEquals(CoreDataGenerator.toJson(first), CoreDataGenerator.toJson(second));
+        Assertions.assertNotEquals(CoreDataGenerator.toJson(first), CoreDataGenerator.toJson(other));
+    }
+}
@@ -0,0 +1,51 @@
+import org.example.DTO.Customer;
+import org.example.config.InvalidDataConfig;
+import org.example.generator.CoreDataGenerator;
+import org.example.generator.UniqueStats;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+class UniqueValuesTest {
+
+    public static class Days {
+        @InvalidDataConfig(invalidDataTypes = {}, minLength = 1, maxLength = 4)
+        int daysCount;
+    }
+
+    @Test
+    void parallelGenerationKeepsValuesUnique() {
+        CoreDataGenerator.Builder<Customer> builder = CoreDataGenerator.builder(Customer.class)
+                .withLocale("ru")
+                .withSeed(1)
+                .unique(List.of("INN"))
+                .unique(List.of("email"))
+                .parallel(4);
+        List<Customer> customers = builder.buildList(20_000);
+
+        Set<String> inns = new HashSet<>();
+        Set<String> emails = new HashSet<>();
+        for (Customer c : customers) {
+            Assertions.assertTrue(inns.add(c.getINN()), c.getINN());
+            Assertions.assertTrue(emails.add(c.getEmail()), c.getEmail());
+        }
+        UniqueStats inn = builder.uniqueStats().get(0);
+        Assertions.assertEquals("INN", inn.getPath());
+        Assertions.assertEquals(20_000, inn.getValues());
+        Assertions.assertTrue(inn.bytesPerMillion() > 0 && inn.bytesPerMillion() < 32_000_000, inn.toString());
+    }
+
+    @Test
+    void exhaustedValueSpaceFailsAfterBoundedRetries() {
+        CoreDataGenerator.Builder<Days> builder = CoreDataGenerator.builder(Days.class)
+                .withLocale("ru")
+                .withSeed(1)
+                .unique(List.of("daysCount"));
+
+        Assertions.assertEquals(3, builder.buildList(3).stream().map(d -> d.daysCount).distinct().count());
+        Assertions.assertThrows(IllegalStateException.class, () -> builder.buildList(4));
+    }
+}